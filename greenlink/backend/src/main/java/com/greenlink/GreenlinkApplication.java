@@ -1,27 +1,45 @@
 package com.greenlink;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;  // ← ADD THIS IMPORT
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.greenlink.dto.CreatePlayerRequest;
+import com.greenlink.dto.PatchPlayerRequest;
+import com.greenlink.dto.PlayerView;
 import com.greenlink.model.Player;
-import com.greenlink.model.Team;
-import com.greenlink.repository.PlayerRepository;
-import com.greenlink.repository.TeamRepository;
+import com.greenlink.service.PlayerImportService;
+import com.greenlink.service.PlayerService;
+import com.greenlink.service.ReadPool;
+import com.greenlink.service.ResourceVersions;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
 
 @SpringBootApplication
+@EnableScheduling
 public class GreenlinkApplication {
     
     public static void main(String[] args) {
@@ -33,10 +51,27 @@ public class GreenlinkApplication {
     public static class ApiController {
         
         @Autowired
-        private PlayerRepository playerRepository;
+        private PlayerService playerService;
+        
+        @Autowired
+        private PlayerImportService playerImportService;
+        
+        @Autowired
+        private ResourceVersions resourceVersions;
+        
+        @Autowired
+        private ReadPool readPool;
         
         @Autowired
-        private TeamRepository teamRepository;
+        private ObjectMapper objectMapper;
+        
+        // Rosters are the hottest read, so the writer (and its serializer lookup) is built once
+        private ObjectWriter playerViewsWriter;
+        
+        @PostConstruct
+        void initWriters() {
+            playerViewsWriter = objectMapper.writerFor(new TypeReference<List<PlayerView>>() {});
+        }
         
         // Health check endpoint
         @GetMapping("/api/health")
@@ -44,86 +79,64 @@ public class GreenlinkApplication {
             return "GreenLink Backend is running! 🚀";
         }
         
-        // Get players by team
+        // Get players by team (conditional: If-None-Match with the team's ETag gets a 304).
+        // The query runs on the read pool as an async request, so it does not hold a servlet thread.
         @GetMapping("/api/players/team/{teamId}")
-        public ResponseEntity<?> getPlayersByTeam(@PathVariable Long teamId) {
-            Team team = teamRepository.findById(teamId).orElse(null);
-            if (team == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Team not found"));
+        public Object getPlayersByTeam(@PathVariable Long teamId, WebRequest webRequest) {
+            // Checked before any query; a match sets the 304 and the body is skipped
+            if (webRequest.checkNotModified(resourceVersions.teamTag(teamId))) {
+                return null;
             }
             
-            List<Player> players = playerRepository.findByTeam(team);
-            return ResponseEntity.ok(players);
+            return readPool.read(resourceVersions.teamChangedRecently(teamId), () -> {
+                List<PlayerView> players = playerService.roster(teamId);
+                try {
+                    return ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(playerViewsWriter.writeValueAsBytes(players));
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Could not serialise roster", e);
+                }
+            });
         }
         
         // Create new player for a team
         @PostMapping("/api/players")
         public ResponseEntity<?> createPlayer(@RequestBody CreatePlayerRequest request) {
-            Team team = teamRepository.findById(request.getTeamId()).orElse(null);
-            if (team == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Team not found"));
-            }
-            
-            Player player = new Player();
-            player.setName(request.getName());
-            player.setPosition(request.getPosition());
-            player.setJerseyNumber(request.getJerseyNumber());
-            player.setTeam(team);
-            
-            Player savedPlayer = playerRepository.save(player);
-            return ResponseEntity.ok(savedPlayer);
+            return ResponseEntity.ok(playerService.create(request));
+        }
+        
+        // Bulk import players from a JSON array of CreatePlayerRequest
+        @PostMapping(value = "/api/players/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<?> importPlayers(@RequestBody List<CreatePlayerRequest> requests) {
+            return ResponseEntity.ok(playerImportService.importPlayers(requests));
+        }
+        
+        // Bulk import players from a CSV stream (header: name,position,jerseyNumber,teamId)
+        @PostMapping(value = "/api/players/bulk", consumes = "text/csv")
+        public ResponseEntity<?> importPlayersCsv(HttpServletRequest request) throws IOException {
+            return ResponseEntity.ok(playerImportService.importCsv(request.getReader()));
         }
         
         // Update player
         @PutMapping("/api/players/{id}")
         public ResponseEntity<?> updatePlayer(@PathVariable Long id, @RequestBody Player playerDetails) {
-            Player player = playerRepository.findById(id).orElse(null);
-            if (player == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Player not found"));
-            }
-            
-            player.setName(playerDetails.getName());
-            player.setPosition(playerDetails.getPosition());
-            player.setJerseyNumber(playerDetails.getJerseyNumber());
-            player.setMatchesPlayed(playerDetails.getMatchesPlayed());
-            player.setGoals(playerDetails.getGoals());
-            player.setAssists(playerDetails.getAssists());
-            player.setYellowCards(playerDetails.getYellowCards());
-            player.setRedCards(playerDetails.getRedCards());
-            
-            Player updatedPlayer = playerRepository.save(player);
-            return ResponseEntity.ok(updatedPlayer);
+            return ResponseEntity.ok(playerService.update(id, playerDetails));
+        }
+        
+        // Partial update: only the fields present in the body are changed.
+        // "increments" are applied first as one atomic UPDATE, e.g. {"increments": {"goals": 1}}.
+        @PatchMapping("/api/players/{id}")
+        public ResponseEntity<?> patchPlayer(@PathVariable Long id, @RequestBody PatchPlayerRequest request) {
+            return ResponseEntity.ok(playerService.patch(id, request));
         }
         
         // Delete player
         @DeleteMapping("/api/players/{id}")
         public ResponseEntity<?> deletePlayer(@PathVariable Long id) {
-            if (playerRepository.existsById(id)) {
-                playerRepository.deleteById(id);
-                return ResponseEntity.ok(Map.of("message", "Player deleted"));
-            }
-            return ResponseEntity.badRequest().body(Map.of("error", "Player not found"));
+            playerService.delete(id);
+            return ResponseEntity.ok(Map.of("message", "Player deleted"));
         }
     }
-    
-    // Request class for creating players
-    public static class CreatePlayerRequest {
-        private String name;
-        private String position;
-        private Integer jerseyNumber;
-        private Long teamId;
-        
-        // Getters and setters
-        public String getName() { return name; }
-        public void setName(String name) { this.name = name; }
-        
-        public String getPosition() { return position; }
-        public void setPosition(String position) { this.position = position; }
-        
-        public Integer getJerseyNumber() { return jerseyNumber; }
-        public void setJerseyNumber(Integer jerseyNumber) { this.jerseyNumber = jerseyNumber; }
-        
-        public Long getTeamId() { return teamId; }
-        public void setTeamId(Long teamId) { this.teamId = teamId; }
-    }
 }
\ No newline at end of file
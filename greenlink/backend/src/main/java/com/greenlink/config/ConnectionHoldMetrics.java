@@ -0,0 +1,102 @@
+package com.greenlink.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+
+// How long each endpoint keeps a connection checked out. Hikari reports every connection's usage time when
+// it goes back to the pool, on the thread that used it; this tags it with that thread's request (route
+// pattern, not the raw path, so the tag stays bounded). Work outside a request is tagged uri=none.
+// The standard hikaricp.* metrics are still recorded: this tracker wraps Micrometer's own.
+// Metrics: db.connection.hold{pool,method,uri}
+@Component
+public class ConnectionHoldMetrics implements BeanPostProcessor {
+
+    private static final String NONE = "none";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionHoldMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Trackers are created when a pool starts (first connection), by which point the registry exists
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource
+                && dataSource.getMetricsTrackerFactory() == null && dataSource.getMetricRegistry() == null) {
+            dataSource.setMetricsTrackerFactory(this::create);
+        }
+        return bean;
+    }
+
+    private IMetricsTracker create(String poolName, PoolStats poolStats) {
+        MeterRegistry registry = meterRegistry.getObject();
+        IMetricsTracker delegate = new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats);
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+                HttpServletRequest request = currentRequest();
+                Timer.builder("db.connection.hold")
+                    .tag("pool", poolName)
+                    .tag("method", request != null ? request.getMethod() : NONE)
+                    .tag("uri", route(request))
+                    .register(registry)
+                    .record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                delegate.recordConnectionTimeout();
+            }
+
+            @Override
+            public void close() {
+                delegate.close();
+            }
+        };
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest();
+        }
+        return null;
+    }
+
+    // Filters run before handler mapping and have no pattern yet
+    private static String route(HttpServletRequest request) {
+        if (request == null) {
+            return NONE;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : NONE;
+    }
+}
@@ -0,0 +1,90 @@
+package com.greenlink.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Virtual-thread mode only (spring.threads.virtual.enabled on a Java 21+ runtime; on older runtimes the
+// property is ignored and Tomcat's thread pool still bounds requests, so this stays off too). With one
+// thread per request, Tomcat no longer caps how many requests reach the database at once. Each request
+// takes a permit (a request uses at most one connection at a time) and waits at most app.dbPermitTimeout
+// for it, then gets a 503 instead of sitting in Hikari's queue until its 30s connection timeout. Waiters
+// are served in order. The ReadPool's app.readThreads workers hold connections without a permit, so there
+// is one permit per Hikari connection they leave.
+// Async requests (SSE) give the permit back when the handler returns.
+// Metrics: db.permits.available, db.permits.rejected
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DatabasePermitFilter extends OncePerRequestFilter {
+    
+    // Served from memory or the local log; these never open a connection
+    private static final List<String> EXCLUDED_PREFIXES = List.of(
+        "/actuator/", "/api/matches/", "/api/search/clubs/autocomplete");
+    
+    private final Semaphore permits;
+    private final long timeoutMs;
+    private final Counter rejected;
+    
+    public DatabasePermitFilter(MeterRegistry meterRegistry,
+                                @Value("${spring.datasource.hikari.maximum-pool-size}") int poolSize,
+                                @Value("${app.readThreads}") int readThreads,
+                                @Value("${app.dbPermitTimeout}") Duration timeout) {
+        int permits = poolSize - readThreads;
+        if (permits < 1) {
+            throw new IllegalStateException("app.readThreads (" + readThreads
+                + ") must be below the Hikari pool size (" + poolSize + ") to leave connections for requests");
+        }
+        this.permits = new Semaphore(permits, true);
+        this.timeoutMs = timeout.toMillis();
+        meterRegistry.gauge("db.permits.available", this.permits, Semaphore::availablePermits);
+        this.rejected = meterRegistry.counter("db.permits.rejected");
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return EXCLUDED_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Server is busy, please retry\"}");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
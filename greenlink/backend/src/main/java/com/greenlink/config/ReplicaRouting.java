@@ -0,0 +1,130 @@
+package com.greenlink.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.greenlink.security.JwtPrincipal;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Decides whether a connection comes from the read replica or the primary. Read-only transactions in a
+// GET go to the replica; everything else uses the primary, including reads made while handling a write
+// request (so an entity is never loaded from a lagging replica and then saved back). A client that committed
+// a write within app.readYourWritesWindow keeps reading from the primary until the replica has caught up.
+// Clients are the JWT user when there is one, otherwise the remote address. Inert unless app.replicaUrl is set.
+@Component
+public class ReplicaRouting extends OncePerRequestFilter {
+    
+    private static final String CLIENT_ATTRIBUTE = ReplicaRouting.class.getName() + ".CLIENT";
+    
+    private final boolean enabled;
+    // client -> marker, expiring one window after the client's last committed write
+    private final Cache<String, Boolean> recentWriters;
+    // Set on worker threads that serve a request which must read from the primary
+    private final ThreadLocal<Boolean> primaryPinned = new ThreadLocal<>();
+    
+    public ReplicaRouting(@Value("${app.replicaUrl:}") String replicaUrl,
+                          @Value("${app.readYourWritesWindow}") Duration window,
+                          @Value("${app.readYourWritesMaxClients}") long maxClients) {
+        this.enabled = !replicaUrl.isEmpty();
+        this.recentWriters = Caffeine.newBuilder()
+            .maximumSize(maxClients)
+            .expireAfterWrite(window)
+            .build();
+    }
+    
+    // Called whenever a connection is handed out
+    public boolean useReplica() {
+        if (!enabled || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        return !readsFromPrimary();
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || isRead(request);
+    }
+    
+    // Async writes (signup) only have their real status on the async dispatch
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+    
+    // A write request that succeeded has committed by the time it completes. The client is resolved on the
+    // first pass, where the JWT authentication is in place, and reused on the async dispatch.
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (request.getAttribute(CLIENT_ATTRIBUTE) == null) {
+            request.setAttribute(CLIENT_ATTRIBUTE, currentClient(request));
+        }
+        chain.doFilter(request, response);
+        if (!request.isAsyncStarted() && response.getStatus() < 400) {
+            recentWriters.put((String) request.getAttribute(CLIENT_ATTRIBUTE), Boolean.TRUE);
+        }
+    }
+    
+    // For work handed to another thread: the request's routing decision travels with it
+    public <T> Supplier<T> propagate(boolean fromPrimary, Supplier<T> work) {
+        if (!enabled || !(fromPrimary || readsFromPrimary())) {
+            return work;
+        }
+        return () -> {
+            primaryPinned.set(Boolean.TRUE);
+            try {
+                return work.get();
+            } finally {
+                primaryPinned.remove();
+            }
+        };
+    }
+    
+    private boolean readsFromPrimary() {
+        if (primaryPinned.get() != null) {
+            return true;
+        }
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return false;
+        }
+        return !isRead(request) || recentWriters.getIfPresent(currentClient(request)) != null;
+    }
+    
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+    
+    // null on threads that are not serving a request (schedulers, read pool workers, warm-ups)
+    private static HttpServletRequest currentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest();
+        }
+        return null;
+    }
+    
+    private static String currentClient(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return "user:" + principal.getUserId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
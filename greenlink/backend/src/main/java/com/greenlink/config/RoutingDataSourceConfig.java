@@ -0,0 +1,96 @@
+package com.greenlink.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Primary/replica split, only when app.replicaUrl is set (otherwise Boot's single pool is used as before).
+// Both pools are Hikari beans, so each reports hikaricp.*{pool=primary|replica}. The lazy proxy defers
+// the actual connection until the first statement, by which point the transaction's read-only flag is
+// known. Each service transaction gets its own connection, so the choice is made per transaction.
+// Metrics: datasource.routed{target=primary|replica}
+@Configuration
+@ConditionalOnProperty(name = "app.replicaUrl")
+public class RoutingDataSourceConfig {
+    
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(PRIMARY);
+        return dataSource;
+    }
+    
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.replicaUrl}") String url,
+                                              @Value("${app.replicaUsername:${spring.datasource.username}}") String username,
+                                              @Value("${app.replicaPassword:${spring.datasource.password}}") String password,
+                                              @Value("${app.replicaPoolSize}") int poolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(REPLICA);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+    
+    // What JPA, Flyway and the JdbcTemplate see
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 HikariDataSource replicaDataSource,
+                                 ReplicaRouting routing,
+                                 MeterRegistry meterRegistry) {
+        RoutingDataSource routingDataSource = new RoutingDataSource(routing,
+            meterRegistry.counter("datasource.routed", "target", PRIMARY),
+            meterRegistry.counter("datasource.routed", "target", REPLICA));
+        routingDataSource.setTargetDataSources(Map.of(PRIMARY, primaryDataSource, REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+    
+    private static class RoutingDataSource extends AbstractRoutingDataSource {
+        private final ReplicaRouting routing;
+        private final Counter toPrimary;
+        private final Counter toReplica;
+        
+        RoutingDataSource(ReplicaRouting routing, Counter toPrimary, Counter toReplica) {
+            this.routing = routing;
+            this.toPrimary = toPrimary;
+            this.toReplica = toReplica;
+        }
+        
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (routing.useReplica()) {
+                toReplica.increment();
+                return REPLICA;
+            }
+            toPrimary.increment();
+            return PRIMARY;
+        }
+    }
+}
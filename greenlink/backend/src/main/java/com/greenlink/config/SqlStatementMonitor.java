@@ -0,0 +1,162 @@
+package com.greenlink.config;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Counts the SQL each request runs. Hibernate hands every statement to the inspector and reports execution
+// time to a per-session listener; both add to a tally kept on the current request (so reads on the
+// ReadPool, which binds the request, count too; other pools such as BCrypt do not). When the request is
+// done the tally is recorded per endpoint. The same statement run app.sqlRepeatThreshold times or more is
+// logged as a suspected N+1; more than app.sqlStatementBudget statements in total is logged as over budget.
+// Metrics: sql.statements{method,uri}, sql.time{method,uri}, sql.repeated{method,uri}, sql.budget.exceeded{method,uri}
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementMonitor extends OncePerRequestFilter implements StatementInspector, HibernatePropertiesCustomizer {
+    
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMonitor.class);
+    private static final String TALLY_ATTRIBUTE = SqlStatementMonitor.class.getName() + ".TALLY";
+    
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+    private final int statementBudget;
+    
+    public SqlStatementMonitor(MeterRegistry meterRegistry,
+                               @Value("${app.sqlRepeatThreshold}") int repeatThreshold,
+                               @Value("${app.sqlStatementBudget}") int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+        this.statementBudget = statementBudget;
+    }
+    
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+        hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, ExecutionTimer.class.getName());
+    }
+    
+    @Override
+    public String inspect(String sql) {
+        Tally tally = currentTally();
+        if (tally != null) {
+            tally.statements.merge(sql, 1, Integer::sum);
+            tally.total.incrementAndGet();
+        }
+        return sql;
+    }
+    
+    // Hot GETs finish on an async dispatch; the tally is recorded once that is done
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Tally tally = (Tally) request.getAttribute(TALLY_ATTRIBUTE);
+        if (tally == null) {
+            tally = new Tally();
+            request.setAttribute(TALLY_ATTRIBUTE, tally);
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (!request.isAsyncStarted()) {
+                record(request, tally);
+            }
+        }
+    }
+    
+    private void record(HttpServletRequest request, Tally tally) {
+        int total = tally.total.get();
+        if (total == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "none";
+        String method = request.getMethod();
+        String endpoint = method + " " + uri;
+        
+        DistributionSummary.builder("sql.statements")
+            .tag("method", method)
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(total);
+        Timer.builder("sql.time")
+            .tag("method", method)
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(tally.executionNanos.get(), TimeUnit.NANOSECONDS);
+        
+        for (Map.Entry<String, Integer> statement : tally.statements.entrySet()) {
+            if (statement.getValue() >= repeatThreshold) {
+                meterRegistry.counter("sql.repeated", "method", method, "uri", uri).increment();
+                log.warn("Possible N+1 on {}: {} x {}", endpoint, statement.getValue(), statement.getKey());
+            }
+        }
+        if (total > statementBudget) {
+            meterRegistry.counter("sql.budget.exceeded", "method", method, "uri", uri).increment();
+            log.warn("{} ran {} SQL statements (budget {})", endpoint, total, statementBudget);
+        }
+    }
+    
+    // Straight from the request: attributes bound on a ReadPool worker are already marked completed
+    private static Tally currentTally() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return (Tally) attributes.getRequest().getAttribute(TALLY_ATTRIBUTE);
+        }
+        return null;
+    }
+    
+    // Statements of one request; a request may hop threads (async dispatch, ReadPool), never run on two at once
+    private static class Tally {
+        private final Map<String, Integer> statements = new ConcurrentHashMap<>();
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicLong executionNanos = new AtomicLong();
+    }
+    
+    // One per Hibernate session (created by class name, hence public with a no-arg constructor)
+    public static class ExecutionTimer extends BaseSessionEventListener {
+        private long startedAt;
+        
+        @Override
+        public void jdbcExecuteStatementStart() {
+            startedAt = System.nanoTime();
+        }
+        
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            Tally tally = currentTally();
+            if (tally != null) {
+                tally.executionNanos.addAndGet(System.nanoTime() - startedAt);
+            }
+        }
+    }
+}
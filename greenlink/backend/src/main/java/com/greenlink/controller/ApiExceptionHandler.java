@@ -0,0 +1,19 @@
+package com.greenlink.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.greenlink.service.InvalidRequestException;
+
+// Maps service-layer rejections to the API's usual 400 {"error": ...} body
+@RestControllerAdvice
+public class ApiExceptionHandler {
+    
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<?> invalidRequest(InvalidRequestException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
@@ -2,18 +2,28 @@ package com.greenlink.controller;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.greenlink.model.User;
-import com.greenlink.repository.UserRepository;
+import com.greenlink.dto.LoginRequest;
+import com.greenlink.dto.SignupRequest;
+import com.greenlink.security.CredentialCache;
+import com.greenlink.security.CredentialCache.CachedCredential;
+import com.greenlink.security.JwtService;
+import com.greenlink.security.PasswordHashingPool;
+import com.greenlink.service.AuthService;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -21,101 +31,87 @@ import com.greenlink.repository.UserRepository;
 public class AuthController {
     
     @Autowired
-    private UserRepository userRepository;
+    private AuthService authService;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingPool passwordHashingPool;
+    
+    @Autowired
+    private CredentialCache credentialCache;
+    
+    @Autowired
+    private JwtService jwtService;
+    
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor taskExecutor;
     
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@RequestBody SignupRequest request) {
-        // Check if username already exists
-        if (userRepository.existsByUsername(request.getUsername())) {
-            return ResponseEntity.badRequest()
-                .body(Map.of("error", "Username already exists"));
-        }
+    public CompletableFuture<ResponseEntity<?>> signup(@RequestBody SignupRequest request) {
+        authService.checkAvailable(request);
         
-        // Check if email already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            return ResponseEntity.badRequest()
-                .body(Map.of("error", "Email already exists"));
+        // Hash on the BCrypt pool; the servlet thread is released while it runs
+        CompletableFuture<String> passwordHash;
+        try {
+            passwordHash = passwordHashingPool.encode(request.getPassword());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
         }
         
-        // Create new user
-        User user = new User();
-        user.setUsername(request.getUsername());
-        user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setFullName(request.getFullName());
-        user.setRole(request.getRole());
-        
-        User savedUser = userRepository.save(user);
-        
-        // Return success response (no password)
-        Map<String, Object> response = new HashMap<>();
-        response.put("id", savedUser.getId());
-        response.put("username", savedUser.getUsername());
-        response.put("email", savedUser.getEmail());
-        response.put("fullName", savedUser.getFullName());
-        response.put("role", savedUser.getRole());
-        
-        return ResponseEntity.ok(response);
+        // The insert (and any duplicate lookups) runs on the task executor: a BCrypt worker must not sit
+        // waiting on the database while hashes queue up behind it
+        return passwordHash.thenApplyAsync(hash -> ResponseEntity.ok(authService.register(request, hash)), taskExecutor);
     }
     
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
-        // Find user by username
-        User user = userRepository.findByUsername(request.getUsername())
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest request) {
+        // Find user by username (served from the credential cache when warm)
+        CachedCredential user = credentialCache.find(request.getUsername())
             .orElse(null);
         
-        if (user == null || !passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            return ResponseEntity.badRequest()
-                .body(Map.of("error", "Invalid username or password"));
+        if (user == null) {
+            return CompletableFuture.completedFuture(invalidCredentials());
         }
         
-        // Return success response (no password)
-        Map<String, Object> response = new HashMap<>();
-        response.put("id", user.getId());
-        response.put("username", user.getUsername());
-        response.put("email", user.getEmail());
-        response.put("fullName", user.getFullName());
-        response.put("role", user.getRole());
+        // Verify on the BCrypt pool; the servlet thread is released while it runs
+        CompletableFuture<Boolean> matches;
+        try {
+            matches = passwordHashingPool.matches(request.getPassword(), user.getPasswordHash());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
+        }
         
-        return ResponseEntity.ok(response);
+        return matches.thenApply(valid -> {
+            if (!valid) {
+                return invalidCredentials();
+            }
+            
+            // Return success response (no password)
+            Map<String, Object> response = new HashMap<>();
+            response.put("id", user.getId());
+            response.put("username", user.getUsername());
+            response.put("email", user.getEmail());
+            response.put("fullName", user.getFullName());
+            response.put("role", user.getRole());
+            
+            // Signed token for subsequent requests (Authorization: Bearer ...)
+            response.put("token", jwtService.issue(user.getId(), user.getUsername(), user.getRole()));
+            response.put("tokenType", "Bearer");
+            response.put("expiresIn", jwtService.getExpirationMs() / 1000);
+            
+            return ResponseEntity.ok(response);
+        });
     }
     
-    // Request classes
-    public static class SignupRequest {
-        private String username;
-        private String email;
-        private String password;
-        private String fullName;
-        private User.Role role = User.Role.PLAYER;
-        
-        // Getters and setters
-        public String getUsername() { return username; }
-        public void setUsername(String username) { this.username = username; }
-        
-        public String getEmail() { return email; }
-        public void setEmail(String email) { this.email = email; }
-        
-        public String getPassword() { return password; }
-        public void setPassword(String password) { this.password = password; }
-        
-        public String getFullName() { return fullName; }
-        public void setFullName(String fullName) { this.fullName = fullName; }
-        
-        public User.Role getRole() { return role; }
-        public void setRole(User.Role role) { this.role = role; }
+    private static ResponseEntity<?> invalidCredentials() {
+        return ResponseEntity.badRequest()
+            .body(Map.of("error", "Invalid username or password"));
     }
     
-    public static class LoginRequest {
-        private String username;
-        private String password;
-        
-        public String getUsername() { return username; }
-        public void setUsername(String username) { this.username = username; }
-        
-        public String getPassword() { return password; }
-        public void setPassword(String password) { this.password = password; }
+    // BCrypt pool queue is full: shed load instead of queueing unboundedly
+    private static ResponseEntity<?> busy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(Map.of("error", "Server busy, please retry"));
     }
 }
\ No newline at end of file
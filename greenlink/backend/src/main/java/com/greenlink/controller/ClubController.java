@@ -1,10 +1,14 @@
 package com.greenlink.controller;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,114 +16,122 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import com.greenlink.model.Club;
-import com.greenlink.model.User;
-import com.greenlink.repository.ClubRepository;
-import com.greenlink.repository.UserRepository;
+import com.greenlink.dto.ClubSummary;
+import com.greenlink.dto.CreateClubRequest;
+import com.greenlink.service.ClubDirectoryService;
+import com.greenlink.service.ClubService;
+import com.greenlink.service.ReadPool;
+import com.greenlink.service.ResourceVersions;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/api/clubs")
 @CrossOrigin(origins = "http://localhost:5173")
 public class ClubController {
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    @Autowired
+    private ClubService clubService;
+    
     @Autowired
-    private ClubRepository clubRepository;
+    private ResourceVersions resourceVersions;
     
     @Autowired
-    private UserRepository userRepository;
+    private ClubDirectoryService clubDirectory;
     
-    // Get all clubs (for testing)
+    @Autowired
+    private ReadPool readPool;
+    
+    // List clubs one keyset page at a time (pass back nextCursor to continue)
     @GetMapping
-    public List<Club> getAllClubs() {
-        return clubRepository.findAll();
+    public ResponseEntity<?> getAllClubs(@RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        long afterId;
+        try {
+            afterId = decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid cursor"));
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        
+        // Fetch one extra row to know whether another page exists
+        List<ClubSummary> clubs = clubService.summariesAfter(afterId, pageSize + 1);
+        boolean hasMore = clubs.size() > pageSize;
+        if (hasMore) {
+            clubs = clubs.subList(0, pageSize);
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("clubs", clubs);
+        response.put("nextCursor", hasMore ? encodeCursor(clubs.get(pageSize - 1).getId()) : null);
+        return ResponseEntity.ok(response);
+    }
+    
+    // Export every club as NDJSON, written row by row from a database cursor
+    @GetMapping("/export")
+    public void exportClubs(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        clubService.export(response.getOutputStream());
     }
     
     // Create new club
     @PostMapping
     public ResponseEntity<?> createClub(@RequestBody CreateClubRequest request) {
-        // Find the user who wants to create the club
-        User owner = userRepository.findById(request.getOwnerId()).orElse(null);
-        if (owner == null) {
-            return ResponseEntity.badRequest().body(Map.of("error", "User not found"));
-        }
-        
-        // Generate unique club code
-        String clubCode = generateClubCode();
-        while (clubRepository.existsByClubCode(clubCode)) {
-            clubCode = generateClubCode();
-        }
-        
-        // Create club
-        Club club = new Club();
-        club.setName(request.getName());
-        club.setClubCode(clubCode);
-        club.setDescription(request.getDescription());
-        club.setLocation(request.getLocation());
-        club.setOwner(owner);
-        
-        Club savedClub = clubRepository.save(club);
-        
-        return ResponseEntity.ok(Map.of(
-            "id", savedClub.getId(),
-            "name", savedClub.getName(),
-            "clubCode", savedClub.getClubCode(),
-            "description", savedClub.getDescription(),
-            "location", savedClub.getLocation(),
-            "owner", Map.of(
-                "id", owner.getId(),
-                "fullName", owner.getFullName(),
-                "username", owner.getUsername()
-            )
-        ));
+        return ResponseEntity.ok(clubService.create(request));
     }
     
-    // Find club by code
+    // Find club by code (conditional on the club's ETag; the code -> id lookup is cached).
+    // A cache hit is answered here; a miss (of the code or the details) becomes an async request served by the read pool.
     @GetMapping("/code/{clubCode}")
-    public ResponseEntity<?> getClubByCode(@PathVariable String clubCode) {
-        Club club = clubRepository.findByClubCode(clubCode).orElse(null);
-        if (club == null) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Club not found"));
+    public Object getClubByCode(@PathVariable String clubCode, WebRequest webRequest) {
+        Long clubId = resourceVersions.cachedClubIdByCode(clubCode);
+        if (clubId == null) {
+            // Unresolved code: until it is resolved we cannot tell whether the club changed recently, so read the primary
+            return readPool.read(true, () -> {
+                Long id = resourceVersions.clubIdByCode(clubCode);
+                String tag = id != null ? resourceVersions.clubTag(id) : null;
+                Map<String, Object> club = id != null ? clubDirectory.club(id) : null;
+                if (club == null) {
+                    return ResponseEntity.badRequest().body(Map.of("error", "Club not found"));
+                }
+                // The ETag on the entity also answers a matching If-None-Match with a 304
+                return ResponseEntity.ok().eTag(tag).cacheControl(CacheControl.noCache()).body(club);
+            });
+        }
+        if (webRequest.checkNotModified(resourceVersions.clubTag(clubId))) {
+            return null;
         }
         
-        return ResponseEntity.ok(Map.of(
-            "id", club.getId(),
-            "name", club.getName(),
-            "clubCode", club.getClubCode(),
-            "description", club.getDescription(),
-            "location", club.getLocation(),
-            "teamCount", club.getTeamCount(),
-            "memberCount", club.getMemberCount()
-        ));
+        Map<String, Object> cached = clubDirectory.cachedClub(clubId);
+        if (cached != null) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(cached);
+        }
+        return readPool.read(resourceVersions.clubChangedRecently(clubId), () -> {
+            Map<String, Object> club = clubDirectory.club(clubId);
+            if (club == null) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Club not found"));
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(club);
+        });
     }
     
-    // Generate random club code (like "EAGLES2024")
-    private String generateClubCode() {
-        String[] words = {"EAGLES", "LIONS", "TIGERS", "BEARS", "WOLVES", "HAWKS", "STORM", "FIRE", "THUNDER", "LIGHTNING"};
-        String word = words[new Random().nextInt(words.length)];
-        int number = 1000 + new Random().nextInt(9000); // 4-digit number
-        return word + number;
+    // Cursor tokens are the last seen club id, base64url-encoded
+    private static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
     }
     
-    // Request class
-    public static class CreateClubRequest {
-        private String name;
-        private String description;
-        private String location;
-        private Long ownerId;
-        
-        // Getters and setters
-        public String getName() { return name; }
-        public void setName(String name) { this.name = name; }
-        
-        public String getDescription() { return description; }
-        public void setDescription(String description) { this.description = description; }
-        
-        public String getLocation() { return location; }
-        public void setLocation(String location) { this.location = location; }
-        
-        public Long getOwnerId() { return ownerId; }
-        public void setOwnerId(Long ownerId) { this.ownerId = ownerId; }
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
     }
 }
\ No newline at end of file
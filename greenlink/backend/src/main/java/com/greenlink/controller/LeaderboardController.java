@@ -0,0 +1,56 @@
+package com.greenlink.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.greenlink.service.LeaderboardService;
+
+@RestController
+@RequestMapping("/api/leaderboards")
+@CrossOrigin(origins = "http://localhost:5173")
+public class LeaderboardController {
+    
+    private static final int DEFAULT_LIMIT = 5;
+    
+    @Autowired
+    private LeaderboardService leaderboardService;
+    
+    // Top players of a team by stat (goals, assists or matchesPlayed)
+    @GetMapping("/team/{teamId}")
+    public ResponseEntity<?> getTeamLeaderboard(@PathVariable Long teamId,
+                                                @RequestParam(defaultValue = "goals") String stat,
+                                                @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        LeaderboardService.Stat ranked = LeaderboardService.Stat.fromParam(stat);
+        if (ranked == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Unknown stat"));
+        }
+        
+        return ResponseEntity.ok(leaderboardService.teamBoard(teamId, ranked, clamp(limit)));
+    }
+    
+    // Top players across all teams of a club
+    @GetMapping("/club/{clubId}")
+    public ResponseEntity<?> getClubLeaderboard(@PathVariable Long clubId,
+                                                @RequestParam(defaultValue = "goals") String stat,
+                                                @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        LeaderboardService.Stat ranked = LeaderboardService.Stat.fromParam(stat);
+        if (ranked == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Unknown stat"));
+        }
+        
+        return ResponseEntity.ok(leaderboardService.clubBoard(clubId, ranked, clamp(limit)));
+    }
+    
+    // Boards hold app.leaderboardSize entries, so that is the most a request can get
+    private int clamp(int limit) {
+        return Math.max(1, Math.min(limit, leaderboardService.getSize()));
+    }
+}
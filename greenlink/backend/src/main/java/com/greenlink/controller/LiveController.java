@@ -0,0 +1,35 @@
+package com.greenlink.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.greenlink.service.LiveUpdateHub;
+
+// Server-Sent Events streams of committed changes, so clients can stop polling.
+// Events: player.created / player.updated / player.deleted, team.created (club channel only), resync.
+@RestController
+@RequestMapping("/api/live")
+@CrossOrigin(origins = "http://localhost:5173")
+public class LiveController {
+    
+    @Autowired
+    private LiveUpdateHub liveUpdateHub;
+    
+    // Player changes in one team
+    @GetMapping(value = "/team/{teamId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTeam(@PathVariable Long teamId) {
+        return liveUpdateHub.subscribeTeam(teamId);
+    }
+    
+    // Team and player changes across a club
+    @GetMapping(value = "/club/{clubId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamClub(@PathVariable Long clubId) {
+        return liveUpdateHub.subscribeClub(clubId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.greenlink.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.greenlink.dto.MatchEvent;
+import com.greenlink.service.MatchEventService;
+
+@RestController
+@RequestMapping("/api/matches")
+@CrossOrigin(origins = "http://localhost:5173")
+public class MatchEventController {
+    
+    @Autowired
+    private MatchEventService matchEventService;
+    
+    // Record live match events, e.g. [{"playerId": 7, "type": "GOAL"}]. 202 means the events are in the
+    // local log; player stats catch up within app.matchEventFlushIntervalMs.
+    @PostMapping("/events")
+    public ResponseEntity<?> recordEvents(@RequestBody List<MatchEvent> events) {
+        for (MatchEvent event : events) {
+            if (event == null || event.getPlayerId() == null || event.getType() == null) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Each event needs a playerId and a type"));
+            }
+        }
+        if (!events.isEmpty()) {
+            matchEventService.ingest(events);
+        }
+        return ResponseEntity.accepted().body(Map.of("accepted", events.size()));
+    }
+}
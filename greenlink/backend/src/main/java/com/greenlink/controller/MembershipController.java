@@ -0,0 +1,80 @@
+package com.greenlink.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.greenlink.dto.JoinRequest;
+import com.greenlink.dto.MembershipRow;
+import com.greenlink.service.ClubService;
+import com.greenlink.service.MembershipIndex;
+import com.greenlink.service.TeamService;
+
+@RestController
+@RequestMapping("/api/memberships")
+@CrossOrigin(origins = "http://localhost:5173")
+public class MembershipController {
+    
+    @Autowired
+    private MembershipIndex membershipIndex;
+    
+    @Autowired
+    private ClubService clubService;
+    
+    @Autowired
+    private TeamService teamService;
+    
+    // Clubs (with role) and teams a user belongs to, from the in-memory index (the database until it is warm)
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<?> getUserMemberships(@PathVariable Long userId) {
+        List<Map<String, Object>> clubs = new ArrayList<>();
+        for (MembershipRow membership : membershipIndex.clubMembershipsOf(userId)) {
+            clubs.add(Map.of("clubId", membership.getTargetId(), "role", membership.getRole()));
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("clubs", clubs);
+        response.put("teams", membershipIndex.teamsOf(userId));
+        return ResponseEntity.ok(response);
+    }
+    
+    // Join a club with its join code
+    @PostMapping("/club")
+    public ResponseEntity<?> joinClub(@RequestBody JoinRequest request) {
+        return ResponseEntity.ok(clubService.join(request.getUserId(), request.getCode()));
+    }
+    
+    // Leave a club
+    @DeleteMapping("/club/{clubId}")
+    public ResponseEntity<?> leaveClub(@PathVariable Long clubId, @RequestParam Long userId) {
+        clubService.leave(clubId, userId);
+        return ResponseEntity.ok(Map.of("message", "Left club"));
+    }
+    
+    // Join a team with its join code
+    @PostMapping("/team")
+    public ResponseEntity<?> joinTeam(@RequestBody JoinRequest request) {
+        Long teamId = teamService.join(request.getUserId(), request.getCode());
+        return ResponseEntity.ok(Map.of("teamId", teamId));
+    }
+    
+    // Leave a team
+    @DeleteMapping("/team/{teamId}")
+    public ResponseEntity<?> leaveTeam(@PathVariable Long teamId, @RequestParam Long userId) {
+        teamService.leave(teamId, userId);
+        return ResponseEntity.ok(Map.of("message", "Left team"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.greenlink.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.greenlink.service.SearchService;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "http://localhost:5173")
+public class SearchController {
+    
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+    
+    @Autowired
+    private SearchService searchService;
+    
+    // Clubs, teams or players whose name contains q, best match first (teams/players can be scoped)
+    @GetMapping
+    public ResponseEntity<?> search(@RequestParam String q,
+                                    @RequestParam(defaultValue = "clubs") String type,
+                                    @RequestParam(required = false) Long clubId,
+                                    @RequestParam(required = false) Long teamId,
+                                    @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        String query = q.trim();
+        if (query.length() < SearchService.MIN_QUERY_LENGTH) {
+            return ResponseEntity.badRequest().body(Map.of("error",
+                "Search needs at least " + SearchService.MIN_QUERY_LENGTH + " characters"));
+        }
+        
+        int size = clamp(limit);
+        switch (type) {
+            case "clubs":
+                return ResponseEntity.ok(searchService.searchClubs(query, size));
+            case "teams":
+                return ResponseEntity.ok(searchService.searchTeams(query, clubId, size));
+            case "players":
+                return ResponseEntity.ok(searchService.searchPlayers(query, teamId, size));
+            default:
+                return ResponseEntity.badRequest().body(Map.of("error", "Unknown search type"));
+        }
+    }
+    
+    // Club name suggestions as the user types (served from memory)
+    @GetMapping("/clubs/autocomplete")
+    public ResponseEntity<?> autocompleteClubs(@RequestParam String prefix,
+                                               @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(searchService.autocompleteClubs(prefix, clamp(limit)));
+    }
+    
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,52 @@
+package com.greenlink.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.greenlink.service.StatsService;
+
+@RestController
+@RequestMapping("/api/stats")
+@CrossOrigin(origins = "http://localhost:5173")
+public class StatsController {
+    
+    private static final int DEFAULT_RANKING_SIZE = 20;
+    
+    @Autowired
+    private StatsService statsService;
+    
+    // Team totals, averages and discipline rates, with a per-position breakdown
+    @GetMapping("/team/{teamId}")
+    public ResponseEntity<?> getTeamStats(@PathVariable Long teamId) {
+        Map<String, Object> report = statsService.teamReport(teamId);
+        if (report == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Team not found"));
+        }
+        return ResponseEntity.ok(report);
+    }
+    
+    // Club totals with per-team and per-position breakdowns
+    @GetMapping("/club/{clubId}")
+    public ResponseEntity<?> getClubStats(@PathVariable Long clubId) {
+        Map<String, Object> report = statsService.clubReport(clubId);
+        if (report == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Club not found"));
+        }
+        return ResponseEntity.ok(report);
+    }
+    
+    // Clubs compared by totals, highest scoring first
+    @GetMapping("/clubs")
+    public ResponseEntity<?> getClubRanking(@RequestParam(defaultValue = "" + DEFAULT_RANKING_SIZE) int limit) {
+        int size = Math.max(1, Math.min(limit, StatsService.MAX_RANKED_CLUBS));
+        return ResponseEntity.ok(statsService.clubRanking(size));
+    }
+}
@@ -2,9 +2,9 @@ package com.greenlink.controller;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,13 +13,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import com.greenlink.model.Club;
-import com.greenlink.model.Team;
-import com.greenlink.model.User;
-import com.greenlink.repository.ClubRepository;
-import com.greenlink.repository.TeamRepository;
-import com.greenlink.repository.UserRepository;
+import com.greenlink.dto.CreateTeamRequest;
+import com.greenlink.dto.TeamSummary;
+import com.greenlink.service.ClubDirectoryService;
+import com.greenlink.service.ReadPool;
+import com.greenlink.service.ResourceVersions;
+import com.greenlink.service.TeamService;
 
 @RestController
 @RequestMapping("/api/teams")
@@ -27,143 +28,76 @@ import com.greenlink.repository.UserRepository;
 public class TeamController {
     
     @Autowired
-    private TeamRepository teamRepository;
+    private TeamService teamService;
     
     @Autowired
-    private ClubRepository clubRepository;
+    private ResourceVersions resourceVersions;
     
     @Autowired
-    private UserRepository userRepository;
+    private ClubDirectoryService clubDirectory;
     
-    // Get all teams in a club
+    @Autowired
+    private ReadPool readPool;
+    
+    // Get all teams in a club (conditional on the club's ETag). A cache hit is answered here; a miss
+    // becomes an async request served by the read pool.
     @GetMapping("/club/{clubId}")
-    public ResponseEntity<?> getTeamsByClub(@PathVariable Long clubId) {
-        Club club = clubRepository.findById(clubId).orElse(null);
-        if (club == null) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Club not found"));
+    public Object getTeamsByClub(@PathVariable Long clubId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(resourceVersions.clubTag(clubId))) {
+            return null;
         }
         
-        List<Team> teams = teamRepository.findByClub(club);
-        return ResponseEntity.ok(teams.stream().map(team -> Map.of(
-            "id", team.getId(),
-            "name", team.getName(),
-            "teamCode", team.getTeamCode(),
-            "ageGroup", team.getAgeGroup() != null ? team.getAgeGroup() : "",
-            "description", team.getDescription() != null ? team.getDescription() : "",
-            "manager", Map.of(
-                "id", team.getManager().getId(),
-                "fullName", team.getManager().getFullName()
-            ),
-            "playerCount", team.getPlayers().size(),  // Fixed: use getPlayers().size()
-            "memberCount", team.getMembers().size()   // Fixed: use getMembers().size()
-        )).toList());
+        List<TeamSummary> cached = clubDirectory.cachedTeamsOf(clubId);
+        if (cached != null) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(cached);
+        }
+        return readPool.read(resourceVersions.clubChangedRecently(clubId), () -> {
+            List<TeamSummary> teams = clubDirectory.teamsOf(clubId);
+            if (teams == null) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Club not found"));
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(teams);
+        });
     }
     
     // Create new team
     @PostMapping
     public ResponseEntity<?> createTeam(@RequestBody CreateTeamRequest request) {
-        // Find club
-        Club club = clubRepository.findById(request.getClubId()).orElse(null);
-        if (club == null) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Club not found"));
-        }
-        
-        // Find manager
-        User manager = userRepository.findById(request.getManagerId()).orElse(null);
-        if (manager == null) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Manager not found"));
-        }
-        
-        // Generate unique team code
-        String teamCode = generateTeamCode();
-        while (teamRepository.existsByTeamCode(teamCode)) {
-            teamCode = generateTeamCode();
-        }
-        
-        // Create team
-        Team team = new Team();
-        team.setName(request.getName());
-        team.setTeamCode(teamCode);
-        team.setAgeGroup(request.getAgeGroup());
-        team.setDescription(request.getDescription());
-        team.setClub(club);
-        team.setManager(manager);
-        
-        Team savedTeam = teamRepository.save(team);
-        
-        return ResponseEntity.ok(Map.of(
-            "id", savedTeam.getId(),
-            "name", savedTeam.getName(),
-            "teamCode", savedTeam.getTeamCode(),
-            "ageGroup", savedTeam.getAgeGroup() != null ? savedTeam.getAgeGroup() : "",
-            "description", savedTeam.getDescription() != null ? savedTeam.getDescription() : "",
-            "club", Map.of(
-                "id", club.getId(),
-                "name", club.getName()
-            ),
-            "manager", Map.of(
-                "id", manager.getId(),
-                "fullName", manager.getFullName()
-            )
-        ));
+        return ResponseEntity.ok(teamService.create(request));
     }
     
-    // Find team by code
+    // Find team by code (conditional on the team's ETag; the code -> id lookup is cached), async on a cache miss
     @GetMapping("/code/{teamCode}")
-    public ResponseEntity<?> getTeamByCode(@PathVariable String teamCode) {
-        Team team = teamRepository.findByTeamCode(teamCode).orElse(null);
-        if (team == null) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Team not found"));
+    public Object getTeamByCode(@PathVariable String teamCode, WebRequest webRequest) {
+        Long teamId = resourceVersions.cachedTeamIdByCode(teamCode);
+        if (teamId == null) {
+            // Resolving the code is a query too, so it runs on the read pool. Until it is resolved we cannot
+            // tell whether the team changed recently, so the read goes to the primary.
+            return readPool.read(true, () -> {
+                Long id = resourceVersions.teamIdByCode(teamCode);
+                String tag = id != null ? resourceVersions.teamTag(id) : null;
+                Map<String, Object> team = id != null ? clubDirectory.team(id) : null;
+                if (team == null) {
+                    return ResponseEntity.badRequest().body(Map.of("error", "Team not found"));
+                }
+                // The ETag on the entity also answers a matching If-None-Match with a 304
+                return ResponseEntity.ok().eTag(tag).cacheControl(CacheControl.noCache()).body(team);
+            });
+        }
+        if (webRequest.checkNotModified(resourceVersions.teamTag(teamId))) {
+            return null;
         }
         
-        return ResponseEntity.ok(Map.of(
-            "id", team.getId(),
-            "name", team.getName(),
-            "teamCode", team.getTeamCode(),
-            "ageGroup", team.getAgeGroup() != null ? team.getAgeGroup() : "",
-            "description", team.getDescription() != null ? team.getDescription() : "",
-            "club", Map.of(
-                "id", team.getClub().getId(),
-                "name", team.getClub().getName()
-            ),
-            "manager", Map.of(
-                "id", team.getManager().getId(),
-                "fullName", team.getManager().getFullName()
-            ),
-            "playerCount", team.getPlayers().size()  // Fixed: use getPlayers().size()
-        ));
-    }
-    
-    // Generate random team code (like "SQUAD2024")
-    private String generateTeamCode() {
-        String[] words = {"SQUAD", "TEAM", "LIONS", "TIGERS", "EAGLES", "HAWKS", "STORM", "FIRE", "STARS", "UNITED"};
-        String word = words[new Random().nextInt(words.length)];
-        int number = 1000 + new Random().nextInt(9000);
-        return word + number;
-    }
-    
-    // Request class
-    public static class CreateTeamRequest {
-        private String name;
-        private String ageGroup;
-        private String description;
-        private Long clubId;
-        private Long managerId;
-        
-        // Getters and setters
-        public String getName() { return name; }
-        public void setName(String name) { this.name = name; }
-        
-        public String getAgeGroup() { return ageGroup; }
-        public void setAgeGroup(String ageGroup) { this.ageGroup = ageGroup; }
-        
-        public String getDescription() { return description; }
-        public void setDescription(String description) { this.description = description; }
-        
-        public Long getClubId() { return clubId; }
-        public void setClubId(Long clubId) { this.clubId = clubId; }
-        
-        public Long getManagerId() { return managerId; }
-        public void setManagerId(Long managerId) { this.managerId = managerId; }
+        Map<String, Object> cached = clubDirectory.cachedTeam(teamId);
+        if (cached != null) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(cached);
+        }
+        return readPool.read(resourceVersions.teamChangedRecently(teamId), () -> {
+            Map<String, Object> team = clubDirectory.team(teamId);
+            if (team == null) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Team not found"));
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(team);
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.greenlink.dto;
+
+// Flat club row for listings and exports (no owner/teams/members associations)
+public class ClubSummary {
+    private final Long id;
+    private final String name;
+    private final String clubCode;
+    private final String description;
+    private final String location;
+    private final int teamCount;
+    private final int memberCount;
+    
+    public ClubSummary(Long id, String name, String clubCode, String description, String location,
+                       int teamCount, int memberCount) {
+        this.id = id;
+        this.name = name;
+        this.clubCode = clubCode;
+        this.description = description;
+        this.location = location;
+        this.teamCount = teamCount;
+        this.memberCount = memberCount;
+    }
+    
+    // Getters
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getClubCode() { return clubCode; }
+    public String getDescription() { return description; }
+    public String getLocation() { return location; }
+    public int getTeamCount() { return teamCount; }
+    public int getMemberCount() { return memberCount; }
+}
@@ -0,0 +1,22 @@
+package com.greenlink.dto;
+
+// Request body for POST /api/clubs
+public class CreateClubRequest {
+    private String name;
+    private String description;
+    private String location;
+    private Long ownerId;
+    
+    // Getters and setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+    
+    public Long getOwnerId() { return ownerId; }
+    public void setOwnerId(Long ownerId) { this.ownerId = ownerId; }
+}
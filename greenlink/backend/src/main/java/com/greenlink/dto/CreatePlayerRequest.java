@@ -0,0 +1,22 @@
+package com.greenlink.dto;
+
+// Request body for POST /api/players (and one row of a bulk import)
+public class CreatePlayerRequest {
+    private String name;
+    private String position;
+    private Integer jerseyNumber;
+    private Long teamId;
+    
+    // Getters and setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public String getPosition() { return position; }
+    public void setPosition(String position) { this.position = position; }
+    
+    public Integer getJerseyNumber() { return jerseyNumber; }
+    public void setJerseyNumber(Integer jerseyNumber) { this.jerseyNumber = jerseyNumber; }
+    
+    public Long getTeamId() { return teamId; }
+    public void setTeamId(Long teamId) { this.teamId = teamId; }
+}
@@ -0,0 +1,31 @@
+package com.greenlink.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Outcome of a bulk import: rows that made it in, plus one error per rejected row (1-based row numbers)
+public class ImportResult {
+    private int imported;
+    private final List<RowError> errors = new ArrayList<>();
+    
+    public void addImported(int count) { imported += count; }
+    public void addError(int row, String error) { errors.add(new RowError(row, error)); }
+    
+    // Getters
+    public int getImported() { return imported; }
+    public int getFailed() { return errors.size(); }
+    public List<RowError> getErrors() { return errors; }
+    
+    public static class RowError {
+        private final int row;
+        private final String error;
+        
+        public RowError(int row, String error) {
+            this.row = row;
+            this.error = error;
+        }
+        
+        public int getRow() { return row; }
+        public String getError() { return error; }
+    }
+}
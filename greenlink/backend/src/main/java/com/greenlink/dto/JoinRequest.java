@@ -0,0 +1,14 @@
+package com.greenlink.dto;
+
+// Request body for joining a club or team with its join code (POST /api/memberships/club, /team)
+public class JoinRequest {
+    private Long userId;
+    private String code;
+    
+    // Getters and setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+}
@@ -0,0 +1,22 @@
+package com.greenlink.dto;
+
+// One row of a leaderboard: the player and the value of the ranked stat
+public class LeaderboardEntry {
+    private final Long playerId;
+    private final String name;
+    private final Long teamId;
+    private final int value;
+    
+    public LeaderboardEntry(Long playerId, String name, Long teamId, int value) {
+        this.playerId = playerId;
+        this.name = name;
+        this.teamId = teamId;
+        this.value = value;
+    }
+    
+    // Getters
+    public Long getPlayerId() { return playerId; }
+    public String getName() { return name; }
+    public Long getTeamId() { return teamId; }
+    public int getValue() { return value; }
+}
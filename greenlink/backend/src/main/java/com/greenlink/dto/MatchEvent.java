@@ -0,0 +1,24 @@
+package com.greenlink.dto;
+
+// One live match event for a player (request body item for POST /api/matches/events)
+public class MatchEvent {
+    
+    public enum Type { APPEARANCE, GOAL, ASSIST, YELLOW_CARD, RED_CARD }
+    
+    private Long playerId;
+    private Type type;
+    
+    public MatchEvent() {}
+    
+    public MatchEvent(Long playerId, Type type) {
+        this.playerId = playerId;
+        this.type = type;
+    }
+    
+    // Getters and setters
+    public Long getPlayerId() { return playerId; }
+    public void setPlayerId(Long playerId) { this.playerId = playerId; }
+    
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+}
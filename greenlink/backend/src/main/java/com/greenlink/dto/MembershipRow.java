@@ -0,0 +1,25 @@
+package com.greenlink.dto;
+
+import com.greenlink.model.ClubMember;
+
+// One membership edge: user -> club (with role) or user -> team (role null)
+public class MembershipRow {
+    private final Long userId;
+    private final Long targetId;
+    private final ClubMember.Role role;
+    
+    public MembershipRow(Long userId, Long targetId, ClubMember.Role role) {
+        this.userId = userId;
+        this.targetId = targetId;
+        this.role = role;
+    }
+    
+    public MembershipRow(Long userId, Long targetId) {
+        this(userId, targetId, null);
+    }
+    
+    // Getters
+    public Long getUserId() { return userId; }
+    public Long getTargetId() { return targetId; }
+    public ClubMember.Role getRole() { return role; }
+}
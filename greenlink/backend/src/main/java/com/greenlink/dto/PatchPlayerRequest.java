@@ -0,0 +1,42 @@
+package com.greenlink.dto;
+
+// Request body for PATCH /api/players/{id}: partial update (null = leave unchanged)
+public class PatchPlayerRequest {
+    private String name;
+    private String position;
+    private Integer jerseyNumber;
+    private Integer matchesPlayed;
+    private Integer goals;
+    private Integer assists;
+    private Integer yellowCards;
+    private Integer redCards;
+    private StatIncrements increments;
+    
+    // Getters and setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public String getPosition() { return position; }
+    public void setPosition(String position) { this.position = position; }
+    
+    public Integer getJerseyNumber() { return jerseyNumber; }
+    public void setJerseyNumber(Integer jerseyNumber) { this.jerseyNumber = jerseyNumber; }
+    
+    public Integer getMatchesPlayed() { return matchesPlayed; }
+    public void setMatchesPlayed(Integer matchesPlayed) { this.matchesPlayed = matchesPlayed; }
+    
+    public Integer getGoals() { return goals; }
+    public void setGoals(Integer goals) { this.goals = goals; }
+    
+    public Integer getAssists() { return assists; }
+    public void setAssists(Integer assists) { this.assists = assists; }
+    
+    public Integer getYellowCards() { return yellowCards; }
+    public void setYellowCards(Integer yellowCards) { this.yellowCards = yellowCards; }
+    
+    public Integer getRedCards() { return redCards; }
+    public void setRedCards(Integer redCards) { this.redCards = redCards; }
+    
+    public StatIncrements getIncrements() { return increments; }
+    public void setIncrements(StatIncrements increments) { this.increments = increments; }
+}
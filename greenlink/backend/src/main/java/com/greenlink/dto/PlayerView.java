@@ -0,0 +1,50 @@
+package com.greenlink.dto;
+
+import com.greenlink.model.Player;
+
+// Flat player read model: the player columns plus teamId, with no association to walk when serialised
+public class PlayerView {
+    private final Long id;
+    private final String name;
+    private final String position;
+    private final Integer jerseyNumber;
+    private final Long teamId;
+    private final Integer matchesPlayed;
+    private final Integer goals;
+    private final Integer assists;
+    private final Integer yellowCards;
+    private final Integer redCards;
+    
+    public PlayerView(Long id, String name, String position, Integer jerseyNumber, Long teamId,
+                      Integer matchesPlayed, Integer goals, Integer assists, Integer yellowCards, Integer redCards) {
+        this.id = id;
+        this.name = name;
+        this.position = position;
+        this.jerseyNumber = jerseyNumber;
+        this.teamId = teamId;
+        this.matchesPlayed = matchesPlayed;
+        this.goals = goals;
+        this.assists = assists;
+        this.yellowCards = yellowCards;
+        this.redCards = redCards;
+    }
+    
+    // From a loaded entity (getTeam() may be a lazy proxy; reading its id does not initialise it)
+    public static PlayerView of(Player player) {
+        return new PlayerView(player.getId(), player.getName(), player.getPosition(), player.getJerseyNumber(),
+            player.getTeam().getId(), player.getMatchesPlayed(), player.getGoals(), player.getAssists(),
+            player.getYellowCards(), player.getRedCards());
+    }
+    
+    // Getters
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getPosition() { return position; }
+    public Integer getJerseyNumber() { return jerseyNumber; }
+    public Long getTeamId() { return teamId; }
+    public Integer getMatchesPlayed() { return matchesPlayed; }
+    public Integer getGoals() { return goals; }
+    public Integer getAssists() { return assists; }
+    public Integer getYellowCards() { return yellowCards; }
+    public Integer getRedCards() { return redCards; }
+}
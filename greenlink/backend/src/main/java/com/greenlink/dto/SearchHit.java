@@ -0,0 +1,26 @@
+package com.greenlink.dto;
+
+// One search result: a club, team or player with its relevance (pg_trgm similarity, 0..1).
+// code is the join code (null for players); parentId is the owning club/team (null for clubs).
+public class SearchHit {
+    private final Long id;
+    private final String name;
+    private final String code;
+    private final Long parentId;
+    private final double score;
+    
+    public SearchHit(Long id, String name, String code, Long parentId, Double score) {
+        this.id = id;
+        this.name = name;
+        this.code = code;
+        this.parentId = parentId;
+        this.score = score != null ? score : 0.0;
+    }
+    
+    // Getters
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getCode() { return code; }
+    public Long getParentId() { return parentId; }
+    public double getScore() { return score; }
+}
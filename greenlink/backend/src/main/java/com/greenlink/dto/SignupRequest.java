@@ -0,0 +1,28 @@
+package com.greenlink.dto;
+
+import com.greenlink.model.User;
+
+// Request body for POST /api/auth/signup (role defaults to PLAYER)
+public class SignupRequest {
+    private String username;
+    private String email;
+    private String password;
+    private String fullName;
+    private User.Role role = User.Role.PLAYER;
+    
+    // Getters and setters
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+    
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    
+    public String getPassword() { return password; }
+    public void setPassword(String password) { this.password = password; }
+    
+    public String getFullName() { return fullName; }
+    public void setFullName(String fullName) { this.fullName = fullName; }
+    
+    public User.Role getRole() { return role; }
+    public void setRole(User.Role role) { this.role = role; }
+}
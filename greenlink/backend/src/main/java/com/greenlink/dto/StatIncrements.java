@@ -0,0 +1,30 @@
+package com.greenlink.dto;
+
+// Stat deltas in a PatchPlayerRequest (may be negative for corrections; omitted = 0)
+public class StatIncrements {
+    private int matchesPlayed;
+    private int goals;
+    private int assists;
+    private int yellowCards;
+    private int redCards;
+    
+    public boolean isEmpty() {
+        return matchesPlayed == 0 && goals == 0 && assists == 0 && yellowCards == 0 && redCards == 0;
+    }
+    
+    // Getters and setters
+    public int getMatchesPlayed() { return matchesPlayed; }
+    public void setMatchesPlayed(int matchesPlayed) { this.matchesPlayed = matchesPlayed; }
+    
+    public int getGoals() { return goals; }
+    public void setGoals(int goals) { this.goals = goals; }
+    
+    public int getAssists() { return assists; }
+    public void setAssists(int assists) { this.assists = assists; }
+    
+    public int getYellowCards() { return yellowCards; }
+    public void setYellowCards(int yellowCards) { this.yellowCards = yellowCards; }
+    
+    public int getRedCards() { return redCards; }
+    public void setRedCards(int redCards) { this.redCards = redCards; }
+}
@@ -0,0 +1,72 @@
+package com.greenlink.dto;
+
+// Aggregated player stats for one group (a team, a club or a position), computed by the database.
+// Rates are derived from the sums, so they weight every match equally rather than every player.
+public class StatTotals {
+    private final Long id;
+    private final String group;
+    private final long players;
+    private final long matchesPlayed;
+    private final long goals;
+    private final long assists;
+    private final long yellowCards;
+    private final long redCards;
+    
+    // Groups with an id (team, club)
+    public StatTotals(Long id, String group, Long players, Long matchesPlayed, Long goals,
+                      Long assists, Long yellowCards, Long redCards) {
+        this.id = id;
+        this.group = group;
+        this.players = players != null ? players : 0;
+        this.matchesPlayed = matchesPlayed != null ? matchesPlayed : 0;
+        this.goals = goals != null ? goals : 0;
+        this.assists = assists != null ? assists : 0;
+        this.yellowCards = yellowCards != null ? yellowCards : 0;
+        this.redCards = redCards != null ? redCards : 0;
+    }
+    
+    // Groups named only by a value (position)
+    public StatTotals(String group, Long players, Long matchesPlayed, Long goals,
+                      Long assists, Long yellowCards, Long redCards) {
+        this(null, group, players, matchesPlayed, goals, assists, yellowCards, redCards);
+    }
+    
+    // Getters
+    public Long getId() { return id; }
+    public String getGroup() { return group; }
+    public long getPlayers() { return players; }
+    public long getMatchesPlayed() { return matchesPlayed; }
+    public long getGoals() { return goals; }
+    public long getAssists() { return assists; }
+    public long getYellowCards() { return yellowCards; }
+    public long getRedCards() { return redCards; }
+    
+    // Derived rates
+    public long getTotalCards() {
+        return yellowCards + redCards;
+    }
+    
+    public double getGoalsPerPlayer() {
+        return players > 0 ? (double) goals / players : 0.0;
+    }
+    
+    public double getAssistsPerPlayer() {
+        return players > 0 ? (double) assists / players : 0.0;
+    }
+    
+    public double getGoalsPerMatch() {
+        return matchesPlayed > 0 ? (double) goals / matchesPlayed : 0.0;
+    }
+    
+    public double getAssistsPerMatch() {
+        return matchesPlayed > 0 ? (double) assists / matchesPlayed : 0.0;
+    }
+    
+    public double getCardsPerMatch() {
+        return matchesPlayed > 0 ? (double) getTotalCards() / matchesPlayed : 0.0;
+    }
+    
+    public double getRedCardsPerMatch() {
+        return matchesPlayed > 0 ? (double) redCards / matchesPlayed : 0.0;
+    }
+}
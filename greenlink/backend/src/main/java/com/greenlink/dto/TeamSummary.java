@@ -0,0 +1,48 @@
+package com.greenlink.dto;
+
+// Read model for team listings, built straight from a JPQL constructor expression
+public class TeamSummary {
+    private final Long id;
+    private final String name;
+    private final String teamCode;
+    private final String ageGroup;
+    private final String description;
+    private final ManagerSummary manager;
+    private final long playerCount;
+    private final long memberCount;
+    
+    public TeamSummary(Long id, String name, String teamCode, String ageGroup, String description,
+                       Long managerId, String managerFullName, long playerCount, long memberCount) {
+        this.id = id;
+        this.name = name;
+        this.teamCode = teamCode;
+        this.ageGroup = ageGroup != null ? ageGroup : "";
+        this.description = description != null ? description : "";
+        this.manager = new ManagerSummary(managerId, managerFullName);
+        this.playerCount = playerCount;
+        this.memberCount = memberCount;
+    }
+    
+    // Getters
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getTeamCode() { return teamCode; }
+    public String getAgeGroup() { return ageGroup; }
+    public String getDescription() { return description; }
+    public ManagerSummary getManager() { return manager; }
+    public long getPlayerCount() { return playerCount; }
+    public long getMemberCount() { return memberCount; }
+    
+    public static class ManagerSummary {
+        private final Long id;
+        private final String fullName;
+        
+        public ManagerSummary(Long id, String fullName) {
+            this.id = id;
+            this.fullName = fullName;
+        }
+        
+        public Long getId() { return id; }
+        public String getFullName() { return fullName; }
+    }
+}
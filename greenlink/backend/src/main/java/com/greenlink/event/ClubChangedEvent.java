@@ -0,0 +1,30 @@
+package com.greenlink.event;
+
+import com.greenlink.model.Club;
+
+// Published when a club is created; carries a snapshot of the new row
+public class ClubChangedEvent {
+    
+    public enum Type { CREATED }
+    
+    private final Type type;
+    private final Long clubId;
+    private final String name;
+    private final String clubCode;
+    private final String location;
+    
+    public ClubChangedEvent(Type type, Club club) {
+        this.type = type;
+        this.clubId = club.getId();
+        this.name = club.getName();
+        this.clubCode = club.getClubCode();
+        this.location = club.getLocation();
+    }
+    
+    // Getters
+    public Type getType() { return type; }
+    public Long getClubId() { return clubId; }
+    public String getName() { return name; }
+    public String getClubCode() { return clubCode; }
+    public String getLocation() { return location; }
+}
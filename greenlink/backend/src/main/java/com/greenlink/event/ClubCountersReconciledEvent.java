@@ -0,0 +1,13 @@
+package com.greenlink.event;
+
+// Published when counter reconciliation rewrote team/member counts on one or more clubs
+public class ClubCountersReconciledEvent {
+    
+    private final int clubs;
+    
+    public ClubCountersReconciledEvent(int clubs) {
+        this.clubs = clubs;
+    }
+    
+    public int getClubs() { return clubs; }
+}
@@ -0,0 +1,42 @@
+package com.greenlink.event;
+
+import com.greenlink.model.ClubMember;
+
+// Published when a user joins or leaves a club or a team (teamId null = club membership)
+public class MembershipChangedEvent {
+    
+    public enum Type { JOINED, LEFT }
+    
+    private final Type type;
+    private final Long userId;
+    private final Long clubId;
+    private final Long teamId;
+    private final ClubMember.Role role;
+    
+    public MembershipChangedEvent(Type type, Long userId, Long clubId, Long teamId, ClubMember.Role role) {
+        this.type = type;
+        this.userId = userId;
+        this.clubId = clubId;
+        this.teamId = teamId;
+        this.role = role;
+    }
+    
+    public static MembershipChangedEvent club(Type type, Long userId, Long clubId, ClubMember.Role role) {
+        return new MembershipChangedEvent(type, userId, clubId, null, role);
+    }
+    
+    public static MembershipChangedEvent team(Type type, Long userId, Long clubId, Long teamId) {
+        return new MembershipChangedEvent(type, userId, clubId, teamId, null);
+    }
+    
+    public boolean isTeamMembership() {
+        return teamId != null;
+    }
+    
+    // Getters
+    public Type getType() { return type; }
+    public Long getUserId() { return userId; }
+    public Long getClubId() { return clubId; }
+    public Long getTeamId() { return teamId; }
+    public ClubMember.Role getRole() { return role; }
+}
@@ -0,0 +1,51 @@
+package com.greenlink.event;
+
+import com.greenlink.model.Player;
+
+// Published whenever a player row is created, updated or deleted; carries a snapshot of the row after the change
+public class PlayerChangedEvent {
+    
+    public enum Type { CREATED, UPDATED, DELETED }
+    
+    private final Type type;
+    private final Long playerId;
+    private final Long teamId;
+    private final Long clubId;
+    private final String name;
+    private final String position;
+    private final Integer jerseyNumber;
+    private final Integer matchesPlayed;
+    private final Integer goals;
+    private final Integer assists;
+    private final Integer yellowCards;
+    private final Integer redCards;
+    
+    public PlayerChangedEvent(Type type, Player player, Long teamId, Long clubId) {
+        this.type = type;
+        this.playerId = player.getId();
+        this.teamId = teamId;
+        this.clubId = clubId;
+        this.name = player.getName();
+        this.position = player.getPosition();
+        this.jerseyNumber = player.getJerseyNumber();
+        this.matchesPlayed = player.getMatchesPlayed();
+        this.goals = player.getGoals();
+        this.assists = player.getAssists();
+        this.yellowCards = player.getYellowCards();
+        this.redCards = player.getRedCards();
+    }
+    
+    // Getters
+    public Type getType() { return type; }
+    public Long getPlayerId() { return playerId; }
+    public Long getTeamId() { return teamId; }
+    public Long getClubId() { return clubId; }
+    public String getName() { return name; }
+    public String getPosition() { return position; }
+    public Integer getJerseyNumber() { return jerseyNumber; }
+    public Integer getMatchesPlayed() { return matchesPlayed; }
+    public Integer getGoals() { return goals; }
+    public Integer getAssists() { return assists; }
+    public Integer getYellowCards() { return yellowCards; }
+    public Integer getRedCards() { return redCards; }
+}
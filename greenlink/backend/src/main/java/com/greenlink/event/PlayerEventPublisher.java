@@ -0,0 +1,47 @@
+package com.greenlink.event;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.greenlink.model.Player;
+import com.greenlink.repository.TeamRepository;
+
+// Publishes PlayerChangedEvents. Listeners use @TransactionalEventListener, so inside a transaction
+// they run after commit; outside one they run immediately.
+@Component
+public class PlayerEventPublisher {
+    
+    @Autowired
+    private ApplicationEventPublisher publisher;
+    
+    @Autowired
+    private TeamRepository teamRepository;
+    
+    // A team never moves between clubs, so team -> club is cached for the life of the process
+    private final ConcurrentHashMap<Long, Long> clubIdsByTeam = new ConcurrentHashMap<>();
+    
+    public void created(Player player) {
+        publish(PlayerChangedEvent.Type.CREATED, player);
+    }
+    
+    public void updated(Player player) {
+        publish(PlayerChangedEvent.Type.UPDATED, player);
+    }
+    
+    public void deleted(Player player) {
+        publish(PlayerChangedEvent.Type.DELETED, player);
+    }
+    
+    public Long clubIdOf(Long teamId) {
+        return clubIdsByTeam.computeIfAbsent(teamId, teamRepository::findClubIdById);
+    }
+    
+    private void publish(PlayerChangedEvent.Type type, Player player) {
+        // getTeam() may be a lazy proxy; reading its id does not initialise it
+        Long teamId = player.getTeam().getId();
+        publisher.publishEvent(new PlayerChangedEvent(type, player, teamId, clubIdOf(teamId)));
+    }
+}
@@ -0,0 +1,33 @@
+package com.greenlink.event;
+
+import com.greenlink.model.Team;
+
+// Published when a team is created; carries a snapshot of the new row
+public class TeamChangedEvent {
+    
+    public enum Type { CREATED }
+    
+    private final Type type;
+    private final Long teamId;
+    private final Long clubId;
+    private final String name;
+    private final String teamCode;
+    private final String ageGroup;
+    
+    public TeamChangedEvent(Type type, Team team, Long clubId) {
+        this.type = type;
+        this.teamId = team.getId();
+        this.clubId = clubId;
+        this.name = team.getName();
+        this.teamCode = team.getTeamCode();
+        this.ageGroup = team.getAgeGroup();
+    }
+    
+    // Getters
+    public Type getType() { return type; }
+    public Long getTeamId() { return teamId; }
+    public Long getClubId() { return clubId; }
+    public String getName() { return name; }
+    public String getTeamCode() { return teamCode; }
+    public String getAgeGroup() { return ageGroup; }
+}
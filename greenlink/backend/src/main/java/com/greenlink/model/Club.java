@@ -2,6 +2,7 @@ package com.greenlink.model;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,6 +41,15 @@ public class Club {
     @OneToMany(mappedBy = "club", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<ClubMember> members = new ArrayList<>();
     
+    // Denormalised counters, maintained by ClubCounterService
+    @ColumnDefault("0")
+    @Column(name = "team_count", nullable = false)
+    private int teamCount = 0;
+    
+    @ColumnDefault("0")
+    @Column(name = "member_count", nullable = false)
+    private int memberCount = 0;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -89,18 +99,15 @@ public class Club {
     public List<ClubMember> getMembers() { return members; }
     public void setMembers(List<ClubMember> members) { this.members = members; }
     
+    public int getTeamCount() { return teamCount; }
+    public void setTeamCount(int teamCount) { this.teamCount = teamCount; }
+    
+    public int getMemberCount() { return memberCount; }
+    public void setMemberCount(int memberCount) { this.memberCount = memberCount; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
-    
-    // Helper methods
-    public int getTeamCount() {
-        return teams.size();
-    }
-    
-    public int getMemberCount() {
-        return members.size();
-    }
 }
\ No newline at end of file
@@ -6,17 +6,29 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Min;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 @Entity
-@Table(name = "players")
+@DynamicUpdate // UPDATEs name only the changed columns (stat ticks touch one or two)
+@Table(name = "players", indexes = {
+    // Leaderboard lookups (top N of a team by stat)
+    @Index(name = "idx_players_team_goals", columnList = "team_id, goals"),
+    @Index(name = "idx_players_team_assists", columnList = "team_id, assists"),
+    @Index(name = "idx_players_team_matches_played", columnList = "team_id, matches_played")
+})
 public class Player {
     
+    // Pooled sequence (50 ids per round-trip) so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_seq")
+    @SequenceGenerator(name = "players_seq", sequenceName = "players_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -7,7 +7,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "teams")
+@Table(name = "teams", indexes = {
+    // Club-level lookups and stat aggregation join players -> teams by club
+    @Index(name = "idx_teams_club", columnList = "club_id")
+})
 public class Team {
     
     @Id
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -11,24 +12,35 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 
+import com.greenlink.security.UserCacheListener;
+
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+    @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+    @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+})
+@EntityListeners(UserCacheListener.class)
 public class User {
     
+    // Named so signup can tell which value collided
+    public static final String USERNAME_CONSTRAINT = "uk_users_username";
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
     @NotBlank(message = "Username is required")
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String username;
     
     @Email(message = "Valid email is required")
     @NotBlank(message = "Email is required")
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
     
     @NotBlank(message = "Password is required")
@@ -2,10 +2,17 @@ package com.greenlink.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.greenlink.dto.MembershipRow;
 import com.greenlink.model.Club;
 import com.greenlink.model.ClubMember;
 import com.greenlink.model.User;
@@ -27,4 +34,17 @@ public interface ClubMemberRepository extends JpaRepository<ClubMember, Long> {
     
     // Find members by role
     List<ClubMember> findByClubAndRole(Club club, ClubMember.Role role);
+    
+    // Find club membership by ids (without loading the club or user)
+    Optional<ClubMember> findByClubIdAndUserId(Long clubId, Long userId);
+    
+    // Clubs of one user with the role in each, as flat rows (served by idx_club_members_user)
+    @Query("SELECT new com.greenlink.dto.MembershipRow(m.user.id, m.club.id, m.role) FROM ClubMember m " +
+           "WHERE m.user.id = :userId ORDER BY m.club.id")
+    List<MembershipRow> findRowsByUserId(@Param("userId") Long userId);
+    
+    // Every club membership as flat rows (caller must hold a transaction and close the stream)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.greenlink.dto.MembershipRow(m.user.id, m.club.id, m.role) FROM ClubMember m")
+    Stream<MembershipRow> streamAllRows();
 }
\ No newline at end of file
@@ -2,10 +2,20 @@ package com.greenlink.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import com.greenlink.dto.ClubSummary;
+import com.greenlink.dto.SearchHit;
 import com.greenlink.model.Club;
 import com.greenlink.model.User;
 
@@ -15,6 +25,10 @@ public interface ClubRepository extends JpaRepository<Club, Long> {
     // Find club by club code
     Optional<Club> findByClubCode(String clubCode);
     
+    // Club id for a code (without loading the entity)
+    @Query("SELECT c.id FROM Club c WHERE c.clubCode = :clubCode")
+    Long findIdByClubCode(@Param("clubCode") String clubCode);
+    
     // Check if club code exists
     boolean existsByClubCode(String clubCode);
     
@@ -23,4 +37,41 @@ public interface ClubRepository extends JpaRepository<Club, Long> {
     
     // Find clubs by name (case insensitive)
     List<Club> findByNameContainingIgnoreCase(String name);
+    
+    // Substring search ranked by trigram similarity (pattern is an escaped '%q%'; served by idx_clubs_name_trgm)
+    @Query("SELECT new com.greenlink.dto.SearchHit(c.id, c.name, c.clubCode, CAST(NULL AS Long), " +
+           "CAST(function('similarity', upper(c.name), upper(:q)) AS Double)) FROM Club c " +
+           "WHERE upper(c.name) LIKE upper(:pattern) ESCAPE '\\' " +
+           "ORDER BY function('similarity', upper(c.name), upper(:q)) DESC, c.id")
+    List<SearchHit> search(@Param("q") String q, @Param("pattern") String pattern, Pageable pageable);
+    
+    // Keyset page of clubs after the given id (page size comes from the Pageable)
+    @Query("SELECT new com.greenlink.dto.ClubSummary(c.id, c.name, c.clubCode, c.description, c.location, " +
+           "c.teamCount, c.memberCount) FROM Club c WHERE c.id > :afterId ORDER BY c.id")
+    List<ClubSummary> findSummariesAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // All clubs as a cursor-backed stream (caller must hold a transaction and close the stream)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.greenlink.dto.ClubSummary(c.id, c.name, c.clubCode, c.description, c.location, " +
+           "c.teamCount, c.memberCount) FROM Club c ORDER BY c.id")
+    Stream<ClubSummary> streamAllSummaries();
+    
+    // Counter maintenance (must run inside the writing transaction)
+    @Modifying
+    @Query("UPDATE Club c SET c.teamCount = c.teamCount + :delta WHERE c.id = :clubId")
+    int adjustTeamCount(@Param("clubId") Long clubId, @Param("delta") int delta);
+    
+    @Modifying
+    @Query("UPDATE Club c SET c.memberCount = c.memberCount + :delta WHERE c.id = :clubId")
+    int adjustMemberCount(@Param("clubId") Long clubId, @Param("delta") int delta);
+    
+    // Recompute counters from the source tables, touching only rows that drifted
+    @Modifying
+    @Query(value = "UPDATE clubs c SET " +
+                   "team_count = (SELECT COUNT(*) FROM teams t WHERE t.club_id = c.id), " +
+                   "member_count = (SELECT COUNT(*) FROM club_members m WHERE m.club_id = c.id) " +
+                   "WHERE c.team_count <> (SELECT COUNT(*) FROM teams t WHERE t.club_id = c.id) " +
+                   "OR c.member_count <> (SELECT COUNT(*) FROM club_members m WHERE m.club_id = c.id)",
+           nativeQuery = true)
+    int reconcileCounts();
 }
\ No newline at end of file
@@ -3,10 +3,17 @@ package com.greenlink.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.greenlink.dto.LeaderboardEntry;
+import com.greenlink.dto.PlayerView;
+import com.greenlink.dto.SearchHit;
+import com.greenlink.dto.StatTotals;
 import com.greenlink.model.Player;
 import com.greenlink.model.Team;
 
@@ -16,6 +23,23 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     // Find players by team
     List<Player> findByTeam(Team team);
     
+    // Team roster as flat rows (no entities, so nothing lazy to initialise when serialised)
+    @Query("SELECT new com.greenlink.dto.PlayerView(p.id, p.name, p.position, p.jerseyNumber, p.team.id, " +
+           "p.matchesPlayed, p.goals, p.assists, p.yellowCards, p.redCards) " +
+           "FROM Player p WHERE p.team.id = :teamId ORDER BY p.id")
+    List<PlayerView> findViewsByTeamId(@Param("teamId") Long teamId);
+    
+    // Substring search ranked by trigram similarity, optionally within one team (served by idx_players_name_trgm)
+    @Query("SELECT new com.greenlink.dto.SearchHit(p.id, p.name, CAST(NULL AS String), p.team.id, " +
+           "CAST(function('similarity', upper(p.name), upper(:q)) AS Double)) FROM Player p " +
+           "WHERE upper(p.name) LIKE upper(:pattern) ESCAPE '\\' AND (:teamId IS NULL OR p.team.id = :teamId) " +
+           "ORDER BY function('similarity', upper(p.name), upper(:q)) DESC, p.id")
+    List<SearchHit> search(@Param("q") String q, @Param("pattern") String pattern,
+                           @Param("teamId") Long teamId, Pageable pageable);
+    
+    // Roster size without loading the players
+    long countByTeamId(Long teamId);
+    
     // Find players by position within a team
     List<Player> findByTeamAndPosition(Team team, String position);
     
@@ -25,17 +49,81 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     // Find player by jersey number within a team
     Optional<Player> findByTeamAndJerseyNumber(Team team, Integer jerseyNumber);
     
-    // Custom queries for team statistics
-    @Query("SELECT p FROM Player p WHERE p.team = ?1 ORDER BY p.goals DESC")
-    List<Player> findTopScorersByTeam(Team team);
+    // Leaderboards: limit-aware (size comes from the Pageable), backed by the (team_id, <stat>) indexes.
+    // Players with no value recorded for the stat are not ranked.
+    @Query("SELECT new com.greenlink.dto.LeaderboardEntry(p.id, p.name, p.team.id, p.goals) FROM Player p " +
+           "WHERE p.team.id = :teamId AND p.goals IS NOT NULL ORDER BY p.goals DESC, p.id")
+    List<LeaderboardEntry> findTopScorersByTeam(@Param("teamId") Long teamId, Pageable pageable);
+    
+    @Query("SELECT new com.greenlink.dto.LeaderboardEntry(p.id, p.name, p.team.id, p.assists) FROM Player p " +
+           "WHERE p.team.id = :teamId AND p.assists IS NOT NULL ORDER BY p.assists DESC, p.id")
+    List<LeaderboardEntry> findTopAssistsByTeam(@Param("teamId") Long teamId, Pageable pageable);
+    
+    @Query("SELECT new com.greenlink.dto.LeaderboardEntry(p.id, p.name, p.team.id, p.matchesPlayed) FROM Player p " +
+           "WHERE p.team.id = :teamId AND p.matchesPlayed IS NOT NULL ORDER BY p.matchesPlayed DESC, p.id")
+    List<LeaderboardEntry> findMostActiveByTeam(@Param("teamId") Long teamId, Pageable pageable);
+    
+    @Query("SELECT new com.greenlink.dto.LeaderboardEntry(p.id, p.name, p.team.id, p.goals) FROM Player p " +
+           "WHERE p.team.club.id = :clubId AND p.goals IS NOT NULL ORDER BY p.goals DESC, p.id")
+    List<LeaderboardEntry> findTopScorersByClub(@Param("clubId") Long clubId, Pageable pageable);
+    
+    @Query("SELECT new com.greenlink.dto.LeaderboardEntry(p.id, p.name, p.team.id, p.assists) FROM Player p " +
+           "WHERE p.team.club.id = :clubId AND p.assists IS NOT NULL ORDER BY p.assists DESC, p.id")
+    List<LeaderboardEntry> findTopAssistsByClub(@Param("clubId") Long clubId, Pageable pageable);
     
-    @Query("SELECT p FROM Player p WHERE p.team = ?1 ORDER BY p.assists DESC")
-    List<Player> findTopAssistsByTeam(Team team);
+    @Query("SELECT new com.greenlink.dto.LeaderboardEntry(p.id, p.name, p.team.id, p.matchesPlayed) FROM Player p " +
+           "WHERE p.team.club.id = :clubId AND p.matchesPlayed IS NOT NULL ORDER BY p.matchesPlayed DESC, p.id")
+    List<LeaderboardEntry> findMostActiveByClub(@Param("clubId") Long clubId, Pageable pageable);
     
-    @Query("SELECT p FROM Player p WHERE p.team = ?1 ORDER BY p.matchesPlayed DESC")
-    List<Player> findMostActiveByTeam(Team team);
+    // Atomic stat increments: one UPDATE, no read first, so concurrent ticks are never lost.
+    // Totals are floored at zero so a correction (negative delta) cannot make them negative.
+    // A stat with a zero delta keeps its value, NULL ("not recorded") included.
+    // Native so MatchEventService can run the same statement as a JDBC batch.
+    String INCREMENT_STATS_SQL = "UPDATE players SET " +
+        "matches_played = CASE WHEN :matchesPlayed = 0 THEN matches_played ELSE GREATEST(COALESCE(matches_played, 0) + :matchesPlayed, 0) END, " +
+        "goals = CASE WHEN :goals = 0 THEN goals ELSE GREATEST(COALESCE(goals, 0) + :goals, 0) END, " +
+        "assists = CASE WHEN :assists = 0 THEN assists ELSE GREATEST(COALESCE(assists, 0) + :assists, 0) END, " +
+        "yellow_cards = CASE WHEN :yellowCards = 0 THEN yellow_cards ELSE GREATEST(COALESCE(yellow_cards, 0) + :yellowCards, 0) END, " +
+        "red_cards = CASE WHEN :redCards = 0 THEN red_cards ELSE GREATEST(COALESCE(red_cards, 0) + :redCards, 0) END " +
+        "WHERE id = :id";
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = INCREMENT_STATS_SQL, nativeQuery = true)
+    int incrementStats(@Param("id") Long id,
+                       @Param("matchesPlayed") int matchesPlayed,
+                       @Param("goals") int goals,
+                       @Param("assists") int assists,
+                       @Param("yellowCards") int yellowCards,
+                       @Param("redCards") int redCards);
     
     // Count players by position in a team
     @Query("SELECT COUNT(p) FROM Player p WHERE p.team = ?1 AND p.position = ?2")
     Long countByTeamAndPosition(Team team, String position);
-}
\ No newline at end of file
+    
+    // Aggregated stats (grouped in the database; see StatTotals for the derived rates)
+    @Query("SELECT new com.greenlink.dto.StatTotals(t.id, t.name, COUNT(p), SUM(p.matchesPlayed), SUM(p.goals), SUM(p.assists), SUM(p.yellowCards), SUM(p.redCards)) " +
+           "FROM Team t LEFT JOIN t.players p WHERE t.id = :teamId GROUP BY t.id, t.name")
+    Optional<StatTotals> findTeamTotals(@Param("teamId") Long teamId);
+    
+    @Query("SELECT new com.greenlink.dto.StatTotals(c.id, c.name, COUNT(p), SUM(p.matchesPlayed), SUM(p.goals), SUM(p.assists), SUM(p.yellowCards), SUM(p.redCards)) " +
+           "FROM Club c LEFT JOIN c.teams t LEFT JOIN t.players p WHERE c.id = :clubId GROUP BY c.id, c.name")
+    Optional<StatTotals> findClubTotals(@Param("clubId") Long clubId);
+    
+    @Query("SELECT new com.greenlink.dto.StatTotals(t.id, t.name, COUNT(p), SUM(p.matchesPlayed), SUM(p.goals), SUM(p.assists), SUM(p.yellowCards), SUM(p.redCards)) " +
+           "FROM Team t LEFT JOIN t.players p WHERE t.club.id = :clubId GROUP BY t.id, t.name ORDER BY t.name, t.id")
+    List<StatTotals> findTeamTotalsByClub(@Param("clubId") Long clubId);
+    
+    @Query("SELECT new com.greenlink.dto.StatTotals(p.position, COUNT(p), SUM(p.matchesPlayed), SUM(p.goals), SUM(p.assists), SUM(p.yellowCards), SUM(p.redCards)) " +
+           "FROM Player p WHERE p.team.id = :teamId GROUP BY p.position ORDER BY p.position")
+    List<StatTotals> findPositionTotalsByTeam(@Param("teamId") Long teamId);
+    
+    @Query("SELECT new com.greenlink.dto.StatTotals(p.position, COUNT(p), SUM(p.matchesPlayed), SUM(p.goals), SUM(p.assists), SUM(p.yellowCards), SUM(p.redCards)) " +
+           "FROM Player p WHERE p.team.club.id = :clubId GROUP BY p.position ORDER BY p.position")
+    List<StatTotals> findPositionTotalsByClub(@Param("clubId") Long clubId);
+    
+    // Cross-club ranking by total goals
+    @Query("SELECT new com.greenlink.dto.StatTotals(c.id, c.name, COUNT(p), SUM(p.matchesPlayed), SUM(p.goals), SUM(p.assists), SUM(p.yellowCards), SUM(p.redCards)) " +
+           "FROM Club c LEFT JOIN c.teams t LEFT JOIN t.players p GROUP BY c.id, c.name " +
+           "ORDER BY COALESCE(SUM(p.goals), 0) DESC, c.id")
+    List<StatTotals> findClubTotalsRanked(Pageable pageable);
+}
@@ -0,0 +1,35 @@
+package com.greenlink.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+
+import com.greenlink.dto.MembershipRow;
+import com.greenlink.model.TeamMember;
+
+@Repository
+public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
+    
+    // Find team membership by ids (without loading the team or user)
+    Optional<TeamMember> findByTeamIdAndUserId(Long teamId, Long userId);
+    
+    // Check if user is member of team
+    boolean existsByTeamIdAndUserId(Long teamId, Long userId);
+    
+    // Team ids of one user (served by idx_team_members_user)
+    @Query("SELECT m.team.id FROM TeamMember m WHERE m.user.id = :userId ORDER BY m.team.id")
+    List<Long> findTeamIdsByUserId(@Param("userId") Long userId);
+    
+    // Every team membership as flat rows (caller must hold a transaction and close the stream)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.greenlink.dto.MembershipRow(m.user.id, m.team.id) FROM TeamMember m")
+    Stream<MembershipRow> streamAllRows();
+}
@@ -3,9 +3,14 @@ package com.greenlink.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.greenlink.dto.SearchHit;
+import com.greenlink.dto.TeamSummary;
 import com.greenlink.model.Club;
 import com.greenlink.model.Team;
 import com.greenlink.model.User;
@@ -16,6 +21,14 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     // Find team by team code
     Optional<Team> findByTeamCode(String teamCode);
     
+    // Team id for a code (without loading the entity)
+    @Query("SELECT t.id FROM Team t WHERE t.teamCode = :teamCode")
+    Long findIdByTeamCode(@Param("teamCode") String teamCode);
+    
+    // Team with its club and manager in one query (for the team details read)
+    @Query("SELECT t FROM Team t JOIN FETCH t.club JOIN FETCH t.manager WHERE t.id = :teamId")
+    Optional<Team> findWithClubAndManagerById(@Param("teamId") Long teamId);
+    
     // Check if team code exists
     boolean existsByTeamCode(String teamCode);
     
@@ -25,6 +38,26 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     // Find all teams in a club
     List<Team> findByClub(Club club);
     
+    // Owning club of a team (without loading either entity)
+    @Query("SELECT t.club.id FROM Team t WHERE t.id = :teamId")
+    Long findClubIdById(@Param("teamId") Long teamId);
+    
+    // Team listing for a club in a single query (manager name and counts included)
+    @Query("SELECT new com.greenlink.dto.TeamSummary(t.id, t.name, t.teamCode, t.ageGroup, t.description, " +
+           "m.id, m.fullName, " +
+           "(SELECT COUNT(p) FROM Player p WHERE p.team = t), " +
+           "(SELECT COUNT(tm) FROM TeamMember tm WHERE tm.team = t)) " +
+           "FROM Team t JOIN t.manager m WHERE t.club.id = :clubId ORDER BY t.id")
+    List<TeamSummary> findSummariesByClubId(@Param("clubId") Long clubId);
+    
+    // Substring search ranked by trigram similarity, optionally within one club (served by idx_teams_name_trgm)
+    @Query("SELECT new com.greenlink.dto.SearchHit(t.id, t.name, t.teamCode, t.club.id, " +
+           "CAST(function('similarity', upper(t.name), upper(:q)) AS Double)) FROM Team t " +
+           "WHERE upper(t.name) LIKE upper(:pattern) ESCAPE '\\' AND (:clubId IS NULL OR t.club.id = :clubId) " +
+           "ORDER BY function('similarity', upper(t.name), upper(:q)) DESC, t.id")
+    List<SearchHit> search(@Param("q") String q, @Param("pattern") String pattern,
+                           @Param("clubId") Long clubId, Pageable pageable);
+    
     // Find teams by name within a club
     List<Team> findByClubAndNameContainingIgnoreCase(Club club, String name);
     
@@ -2,10 +2,15 @@ package com.greenlink.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import com.greenlink.model.User;
 
 @Repository
@@ -25,4 +30,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     // Find users by role
     List<User> findByRole(User.Role role);
+    
+    // Streams for warming the signup Bloom filter (caller must hold a transaction)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT u.username FROM User u")
+    Stream<String> streamAllUsernames();
+    
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
 }
\ No newline at end of file
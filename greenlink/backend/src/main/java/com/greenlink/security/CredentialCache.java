@@ -0,0 +1,102 @@
+package com.greenlink.security;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.greenlink.model.User;
+import com.greenlink.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Bounded username -> credential cache for the login path (metrics: cache.gets{cache=credentials})
+@Component
+public class CredentialCache {
+    
+    private final UserRepository userRepository;
+    private final Cache<String, CachedCredential> cache;
+    
+    public CredentialCache(UserRepository userRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.credentialCacheMaxSize}") long maxSize,
+                           @Value("${app.credentialCacheTtl}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "credentials");
+    }
+    
+    // Cached lookup; unknown usernames are not cached
+    public Optional<CachedCredential> find(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(username, key ->
+            userRepository.findByUsername(key).map(CachedCredential::of).orElse(null)));
+    }
+    
+    // Drop a user's entry now and again after commit, so a concurrent login cannot re-cache the old row
+    public void invalidate(Long userId, String username) {
+        evict(userId, username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId, username);
+                }
+            });
+        }
+    }
+    
+    private void evict(Long userId, String username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+        // The username itself may have changed, so also match on id
+        if (userId != null) {
+            cache.asMap().values().removeIf(credential -> userId.equals(credential.getId()));
+        }
+    }
+    
+    // Immutable snapshot of the columns needed to answer a login
+    public static class CachedCredential {
+        private final Long id;
+        private final String username;
+        private final String email;
+        private final String fullName;
+        private final String passwordHash;
+        private final User.Role role;
+        
+        public CachedCredential(Long id, String username, String email, String fullName,
+                                String passwordHash, User.Role role) {
+            this.id = id;
+            this.username = username;
+            this.email = email;
+            this.fullName = fullName;
+            this.passwordHash = passwordHash;
+            this.role = role;
+        }
+        
+        public static CachedCredential of(User user) {
+            return new CachedCredential(user.getId(), user.getUsername(), user.getEmail(),
+                user.getFullName(), user.getPassword(), user.getRole());
+        }
+        
+        public Long getId() { return id; }
+        public String getUsername() { return username; }
+        public String getEmail() { return email; }
+        public String getFullName() { return fullName; }
+        public String getPasswordHash() { return passwordHash; }
+        public User.Role getRole() { return role; }
+    }
+}
@@ -0,0 +1,25 @@
+package com.greenlink.security;
+
+import java.time.Instant;
+
+import com.greenlink.model.User;
+
+// Authenticated caller as carried by a verified JWT (no DB lookup needed)
+public class JwtPrincipal {
+    private final Long userId;
+    private final String username;
+    private final User.Role role;
+    private final Instant expiresAt;
+    
+    public JwtPrincipal(Long userId, String username, User.Role role, Instant expiresAt) {
+        this.userId = userId;
+        this.username = username;
+        this.role = role;
+        this.expiresAt = expiresAt;
+    }
+    
+    public Long getUserId() { return userId; }
+    public String getUsername() { return username; }
+    public User.Role getRole() { return role; }
+    public Instant getExpiresAt() { return expiresAt; }
+}
@@ -0,0 +1,102 @@
+package com.greenlink.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.greenlink.model.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Issues and verifies HMAC-signed JWTs. The key and parser are built once; tokens that already
+// verified are remembered until they expire, so repeat requests skip signature checking.
+@Component
+public class JwtService {
+    
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final long expirationMs;
+    private final Cache<String, JwtPrincipal> verifiedTokens;
+    
+    public JwtService(@Value("${app.jwtSecret}") String secret,
+                      @Value("${app.jwtExpirationMs}") long expirationMs,
+                      @Value("${app.jwtVerifiedCacheMaxSize}") long verifiedCacheMaxSize,
+                      MeterRegistry meterRegistry) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.expirationMs = expirationMs;
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(verifiedCacheMaxSize)
+            .expireAfter(new Expiry<String, JwtPrincipal>() {
+                @Override
+                public long expireAfterCreate(String token, JwtPrincipal principal, long currentTime) {
+                    return Math.max(0, Duration.between(Instant.now(), principal.getExpiresAt()).toNanos());
+                }
+                
+                @Override
+                public long expireAfterUpdate(String token, JwtPrincipal principal, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+                
+                @Override
+                public long expireAfterRead(String token, JwtPrincipal principal, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt");
+    }
+    
+    public String issue(Long userId, String username, User.Role role) {
+        Date now = new Date();
+        return Jwts.builder()
+            .setSubject(username)
+            .claim("uid", userId)
+            .claim("role", role.name())
+            .setIssuedAt(now)
+            .setExpiration(new Date(now.getTime() + expirationMs))
+            .signWith(key)
+            .compact();
+    }
+    
+    public long getExpirationMs() {
+        return expirationMs;
+    }
+    
+    // Returns null for tokens that are malformed, tampered with or expired
+    public JwtPrincipal verify(String token) {
+        JwtPrincipal cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+        
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            JwtPrincipal principal = new JwtPrincipal(
+                claims.get("uid", Long.class),
+                claims.getSubject(),
+                User.Role.valueOf(claims.get("role", String.class)),
+                claims.getExpiration().toInstant());
+            verifiedTokens.put(token, principal);
+            return principal;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.greenlink.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+// Runs BCrypt hash/verify on a fixed pool sized to the CPU, off the servlet threads.
+// When the queue is full, submissions fail fast with RejectedExecutionException (callers answer 503).
+// Metrics: bcrypt.queue.latency (time waiting for a worker) and executor.*{name=bcrypt}.
+@Component
+public class PasswordHashingPool implements DisposableBean {
+    
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer queueLatency;
+    
+    public PasswordHashingPool(PasswordEncoder passwordEncoder,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.bcryptPoolThreads}") int threads,
+                               @Value("${app.bcryptQueueCapacity}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            task -> {
+                Thread thread = new Thread(task, "bcrypt-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "bcrypt");
+        this.queueLatency = Timer.builder("bcrypt.queue.latency")
+            .description("Time a BCrypt task waits for a worker")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+    
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+    
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+    
+    // Throws RejectedExecutionException immediately when the queue is full
+    private <T> CompletableFuture<T> submit(Supplier<T> work) throws RejectedExecutionException {
+        long enqueuedAt = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            queueLatency.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            return work.get();
+        }, executor);
+    }
+    
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,120 @@
+package com.greenlink.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.greenlink.repository.UserRepository;
+
+// In-memory Bloom filter of taken usernames and emails, warmed at startup.
+// A miss means "definitely free", so signup goes straight to the insert; a hit only means "maybe taken"
+// (false positives are possible), so the caller confirms with one query before spending a BCrypt hash.
+// When disabled every lookup is a miss and duplicates are caught by the unique constraints alone.
+@Component
+public class SignupBloomFilter {
+    
+    private final boolean enabled;
+    private final int numBits;
+    private final int numHashes;
+    private final AtomicLongArray bits;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    public SignupBloomFilter(@Value("${app.signupBloomEnabled}") boolean enabled,
+                             @Value("${app.signupBloomExpectedEntries}") long expectedEntries,
+                             @Value("${app.signupBloomFalsePositiveRate}") double falsePositiveRate) {
+        this.enabled = enabled;
+        // Each user contributes two keys (username and email)
+        long n = Math.max(1, expectedEntries * 2);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numBits = enabled ? (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, m)) : 64;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        this.bits = new AtomicLongArray((numBits + 63) / 64);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warm() {
+        if (!enabled) {
+            return;
+        }
+        try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+            usernames.forEach(username -> add("u:" + username));
+        }
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(email -> add("e:" + email));
+        }
+    }
+    
+    public boolean mightContainUsername(String username) {
+        return enabled && username != null && mightContain("u:" + username);
+    }
+    
+    public boolean mightContainEmail(String email) {
+        return enabled && email != null && mightContain("e:" + email);
+    }
+    
+    public void put(String username, String email) {
+        if (!enabled) {
+            return;
+        }
+        if (username != null) {
+            add("u:" + username);
+        }
+        if (email != null) {
+            add("e:" + email);
+        }
+    }
+    
+    // Kirsch-Mitzenmacher double hashing over one 64-bit hash
+    private void add(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % numBits;
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+    
+    private boolean mightContain(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % numBits;
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    // FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 64-bit mixer
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
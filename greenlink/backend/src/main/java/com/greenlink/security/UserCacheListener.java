@@ -0,0 +1,23 @@
+package com.greenlink.security;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.greenlink.model.User;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+// JPA listener on User: any update or delete of a user row evicts its cached credentials
+public class UserCacheListener {
+    
+    // Resolved lazily: listeners are created while the EntityManagerFactory (which the cache needs) is still starting
+    @Autowired
+    private ObjectProvider<CredentialCache> credentialCache;
+    
+    @PostUpdate
+    @PostRemove
+    public void userChanged(User user) {
+        credentialCache.ifAvailable(cache -> cache.invalidate(user.getId(), user.getUsername()));
+    }
+}
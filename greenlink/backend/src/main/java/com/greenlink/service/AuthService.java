@@ -0,0 +1,106 @@
+package com.greenlink.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.greenlink.dto.SignupRequest;
+import com.greenlink.model.User;
+import com.greenlink.repository.UserRepository;
+import com.greenlink.security.SignupBloomFilter;
+
+// Account registration. Hashing stays with the controller (on the BCrypt pool); this only touches the
+// database, one short repository transaction per call, so nothing is held while a hash is computed.
+@Service
+public class AuthService {
+    
+    private final UserRepository userRepository;
+    private final SignupBloomFilter signupBloomFilter;
+    
+    public AuthService(UserRepository userRepository, SignupBloomFilter signupBloomFilter) {
+        this.userRepository = userRepository;
+        this.signupBloomFilter = signupBloomFilter;
+    }
+    
+    // Bloom filter hit = possibly taken: confirm before spending a BCrypt hash.
+    // A miss skips the lookups entirely and the unique constraints settle it on insert.
+    public void checkAvailable(SignupRequest request) {
+        if (signupBloomFilter.mightContainUsername(request.getUsername())
+                && userRepository.existsByUsername(request.getUsername())) {
+            throw usernameTaken();
+        }
+        if (signupBloomFilter.mightContainEmail(request.getEmail())
+                && userRepository.existsByEmail(request.getEmail())) {
+            throw emailTaken();
+        }
+    }
+    
+    // Creates the user with an already computed hash and returns it without the password
+    public Map<String, Object> register(SignupRequest request, String passwordHash) {
+        User user = new User();
+        user.setUsername(request.getUsername());
+        user.setEmail(request.getEmail());
+        user.setPassword(passwordHash);
+        user.setFullName(request.getFullName());
+        user.setRole(request.getRole());
+        
+        // Single round-trip: the insert itself is the uniqueness check
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateSignup(e, request);
+        }
+        signupBloomFilter.put(savedUser.getUsername(), savedUser.getEmail());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", savedUser.getId());
+        response.put("username", savedUser.getUsername());
+        response.put("email", savedUser.getEmail());
+        response.put("fullName", savedUser.getFullName());
+        response.put("role", savedUser.getRole());
+        return response;
+    }
+    
+    // Map a unique-constraint violation on users to the matching "already exists" error
+    private RuntimeException duplicateSignup(DataIntegrityViolationException e, SignupRequest request) {
+        String constraint = null;
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                constraint = violation.getConstraintName();
+                break;
+            }
+        }
+        
+        if (constraint != null) {
+            String name = constraint.toLowerCase(Locale.ROOT);
+            if (name.contains(User.USERNAME_CONSTRAINT)) {
+                return usernameTaken();
+            }
+            if (name.contains(User.EMAIL_CONSTRAINT)) {
+                return emailTaken();
+            }
+        }
+        
+        // Unnamed (legacy) constraint: work out which value collided
+        if (userRepository.existsByUsername(request.getUsername())) {
+            return usernameTaken();
+        }
+        if (userRepository.existsByEmail(request.getEmail())) {
+            return emailTaken();
+        }
+        return e;
+    }
+    
+    private static InvalidRequestException usernameTaken() {
+        return new InvalidRequestException("Username already exists");
+    }
+    
+    private static InvalidRequestException emailTaken() {
+        return new InvalidRequestException("Email already exists");
+    }
+}
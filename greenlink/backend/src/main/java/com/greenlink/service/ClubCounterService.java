@@ -0,0 +1,69 @@
+package com.greenlink.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.greenlink.event.ClubCountersReconciledEvent;
+import com.greenlink.repository.ClubRepository;
+
+// Keeps clubs.team_count / clubs.member_count in step with the teams and club_members tables
+@Service
+public class ClubCounterService {
+    
+    private static final Logger log = LoggerFactory.getLogger(ClubCounterService.class);
+    
+    @Autowired
+    private ClubRepository clubRepository;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    // Counter updates join the transaction that inserts/deletes the row, so both commit or neither does
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void teamAdded(Long clubId) {
+        clubRepository.adjustTeamCount(clubId, 1);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void teamRemoved(Long clubId) {
+        clubRepository.adjustTeamCount(clubId, -1);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void memberAdded(Long clubId) {
+        clubRepository.adjustMemberCount(clubId, 1);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void memberRemoved(Long clubId) {
+        clubRepository.adjustMemberCount(clubId, -1);
+    }
+    
+    // Fixes drift (manual SQL, rows written before the counters existed, ...)
+    @Scheduled(cron = "${app.clubCounterReconcileCron}")
+    @Transactional
+    public int reconcile() {
+        int fixed = clubRepository.reconcileCounts();
+        if (fixed > 0) {
+            log.warn("Reconciled team/member counters on {} club(s)", fixed);
+            // Counts shown by club reads changed without a per-club event (listeners run after commit)
+            eventPublisher.publishEvent(new ClubCountersReconciledEvent(fixed));
+        }
+        return fixed;
+    }
+    
+    // Backfill once on startup so freshly added counter columns are correct immediately
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+}
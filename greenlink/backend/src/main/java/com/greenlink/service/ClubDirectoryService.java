@@ -0,0 +1,173 @@
+package com.greenlink.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.greenlink.dto.TeamSummary;
+import com.greenlink.event.ClubCountersReconciledEvent;
+import com.greenlink.event.MembershipChangedEvent;
+import com.greenlink.event.PlayerChangedEvent;
+import com.greenlink.event.TeamChangedEvent;
+import com.greenlink.repository.ClubRepository;
+import com.greenlink.repository.PlayerRepository;
+import com.greenlink.repository.TeamRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Read-through caches for the join-by-code reads: team details, club details and a club's team listing.
+// Keyed by id (codes resolve to ids through ResourceVersions). Entries are evicted after commit of any
+// write that changes them; the TTL only bounds drift from writes made outside the app.
+// Misses (unknown ids) are not cached. Metrics: cache.gets{cache=teams|clubs|clubTeams}
+@Service
+public class ClubDirectoryService {
+    
+    private final TeamRepository teamRepository;
+    private final ClubRepository clubRepository;
+    private final PlayerRepository playerRepository;
+    private final Cache<Long, Map<String, Object>> teams;
+    private final Cache<Long, Map<String, Object>> clubs;
+    private final Cache<Long, List<TeamSummary>> clubTeams;
+    
+    public ClubDirectoryService(TeamRepository teamRepository,
+                                ClubRepository clubRepository,
+                                PlayerRepository playerRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.teamCacheMaxSize}") long teamMaxSize,
+                                @Value("${app.teamCacheTtl}") Duration teamTtl,
+                                @Value("${app.clubCacheMaxSize}") long clubMaxSize,
+                                @Value("${app.clubCacheTtl}") Duration clubTtl,
+                                @Value("${app.clubTeamsCacheMaxSize}") long clubTeamsMaxSize,
+                                @Value("${app.clubTeamsCacheTtl}") Duration clubTeamsTtl) {
+        this.teamRepository = teamRepository;
+        this.clubRepository = clubRepository;
+        this.playerRepository = playerRepository;
+        this.teams = Caffeine.newBuilder()
+            .maximumSize(teamMaxSize)
+            .expireAfterWrite(teamTtl)
+            .recordStats()
+            .build();
+        this.clubs = Caffeine.newBuilder()
+            .maximumSize(clubMaxSize)
+            .expireAfterWrite(clubTtl)
+            .recordStats()
+            .build();
+        this.clubTeams = Caffeine.newBuilder()
+            .maximumSize(clubTeamsMaxSize)
+            .expireAfterWrite(clubTeamsTtl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, teams, "teams");
+        CaffeineCacheMetrics.monitor(meterRegistry, clubs, "clubs");
+        CaffeineCacheMetrics.monitor(meterRegistry, clubTeams, "clubTeams");
+    }
+    
+    // Team details with club, manager and player count; null if the team does not exist
+    @Transactional(readOnly = true)
+    public Map<String, Object> team(Long teamId) {
+        return teams.get(teamId, id -> teamRepository.findWithClubAndManagerById(id)
+            .map(team -> Map.<String, Object>of(
+                "id", team.getId(),
+                "name", team.getName(),
+                "teamCode", team.getTeamCode(),
+                "ageGroup", team.getAgeGroup() != null ? team.getAgeGroup() : "",
+                "description", team.getDescription() != null ? team.getDescription() : "",
+                "club", Map.of(
+                    "id", team.getClub().getId(),
+                    "name", team.getClub().getName()
+                ),
+                "manager", Map.of(
+                    "id", team.getManager().getId(),
+                    "fullName", team.getManager().getFullName()
+                ),
+                "playerCount", playerRepository.countByTeamId(id)
+            ))
+            .orElse(null));
+    }
+    
+    // Club details with team/member counters; null if the club does not exist
+    @Transactional(readOnly = true)
+    public Map<String, Object> club(Long clubId) {
+        return clubs.get(clubId, id -> clubRepository.findById(id)
+            .map(club -> Map.<String, Object>of(
+                "id", club.getId(),
+                "name", club.getName(),
+                "clubCode", club.getClubCode(),
+                "description", club.getDescription() != null ? club.getDescription() : "",
+                "location", club.getLocation() != null ? club.getLocation() : "",
+                "teamCount", club.getTeamCount(),
+                "memberCount", club.getMemberCount()
+            ))
+            .orElse(null));
+    }
+    
+    // All teams in a club; null if the club does not exist
+    @Transactional(readOnly = true)
+    public List<TeamSummary> teamsOf(Long clubId) {
+        return clubTeams.get(clubId, id -> {
+            List<TeamSummary> summaries = teamRepository.findSummariesByClubId(id);
+            // Only hit the clubs table when there is nothing to show
+            if (summaries.isEmpty() && !clubRepository.existsById(id)) {
+                return null;
+            }
+            return List.copyOf(summaries);
+        });
+    }
+    
+    // Cache-only lookups (null when not cached), so a caller can skip the async hop on a hit
+    public Map<String, Object> cachedTeam(Long teamId) {
+        return teams.getIfPresent(teamId);
+    }
+    
+    public Map<String, Object> cachedClub(Long clubId) {
+        return clubs.getIfPresent(clubId);
+    }
+    
+    public List<TeamSummary> cachedTeamsOf(Long clubId) {
+        return clubTeams.getIfPresent(clubId);
+    }
+    
+    // Player counts appear in the team details and the club's team listing
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        if (event.getType() == PlayerChangedEvent.Type.UPDATED) {
+            return;
+        }
+        teams.invalidate(event.getTeamId());
+        if (event.getClubId() != null) {
+            clubTeams.invalidate(event.getClubId());
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        clubTeams.invalidate(event.getClubId());
+        clubs.invalidate(event.getClubId());
+    }
+    
+    // Club memberships change the club's member count; team memberships the listing's member counts
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        if (event.getClubId() == null) {
+            return;
+        }
+        if (event.isTeamMembership()) {
+            clubTeams.invalidate(event.getClubId());
+        } else {
+            clubs.invalidate(event.getClubId());
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountersReconciled(ClubCountersReconciledEvent event) {
+        clubs.invalidateAll();
+    }
+}
@@ -0,0 +1,151 @@
+package com.greenlink.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.greenlink.dto.ClubSummary;
+import com.greenlink.dto.CreateClubRequest;
+import com.greenlink.event.ClubChangedEvent;
+import com.greenlink.event.MembershipChangedEvent;
+import com.greenlink.model.Club;
+import com.greenlink.model.ClubMember;
+import com.greenlink.model.User;
+import com.greenlink.repository.ClubMemberRepository;
+import com.greenlink.repository.ClubRepository;
+import com.greenlink.repository.UserRepository;
+
+// Club use cases: listing, export, creation and club membership. Like TeamService, each method owns its
+// transaction and hands back plain data, so no connection is held once it returns.
+@Service
+public class ClubService {
+    
+    private final ClubRepository clubRepository;
+    private final UserRepository userRepository;
+    private final ClubMemberRepository clubMemberRepository;
+    private final ClubCounterService clubCounterService;
+    private final CodeGenerator codeGenerator;
+    private final MembershipIndex membershipIndex;
+    private final ResourceVersions resourceVersions;
+    private final ObjectWriter summaryWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public ClubService(ClubRepository clubRepository,
+                       UserRepository userRepository,
+                       ClubMemberRepository clubMemberRepository,
+                       ClubCounterService clubCounterService,
+                       CodeGenerator codeGenerator,
+                       MembershipIndex membershipIndex,
+                       ResourceVersions resourceVersions,
+                       ObjectMapper objectMapper,
+                       ApplicationEventPublisher eventPublisher) {
+        this.clubRepository = clubRepository;
+        this.userRepository = userRepository;
+        this.clubMemberRepository = clubMemberRepository;
+        this.clubCounterService = clubCounterService;
+        this.codeGenerator = codeGenerator;
+        this.membershipIndex = membershipIndex;
+        this.resourceVersions = resourceVersions;
+        this.summaryWriter = objectMapper.writerFor(ClubSummary.class);
+        this.eventPublisher = eventPublisher;
+    }
+    
+    // Up to limit clubs with an id above afterId, in id order
+    @Transactional(readOnly = true)
+    public List<ClubSummary> summariesAfter(long afterId, int limit) {
+        return clubRepository.findSummariesAfter(afterId, PageRequest.of(0, limit));
+    }
+    
+    // Every club as NDJSON. The cursor (and its connection) only lives for the length of this call.
+    @Transactional(readOnly = true)
+    public void export(OutputStream out) throws IOException {
+        try (Stream<ClubSummary> clubs = clubRepository.streamAllSummaries()) {
+            Iterator<ClubSummary> rows = clubs.iterator();
+            while (rows.hasNext()) {
+                out.write(summaryWriter.writeValueAsBytes(rows.next()));
+                out.write('\n');
+            }
+            out.flush();
+        }
+    }
+    
+    // No outer transaction, for the same reason as TeamService.create
+    public Map<String, Object> create(CreateClubRequest request) {
+        User owner = userRepository.findById(request.getOwnerId())
+            .orElseThrow(() -> new InvalidRequestException("User not found"));
+        
+        // Reserve a unique club code on insert
+        Club savedClub = codeGenerator.reserve(CodeGenerator.CLUB_WORDS, clubCode -> {
+            Club club = new Club();
+            club.setName(request.getName());
+            club.setClubCode(clubCode);
+            club.setDescription(request.getDescription());
+            club.setLocation(request.getLocation());
+            club.setOwner(owner);
+            return clubRepository.save(club);
+        }, clubRepository::existsByClubCode);
+        eventPublisher.publishEvent(new ClubChangedEvent(ClubChangedEvent.Type.CREATED, savedClub));
+        
+        return Map.of(
+            "id", savedClub.getId(),
+            "name", savedClub.getName(),
+            "clubCode", savedClub.getClubCode(),
+            "description", savedClub.getDescription(),
+            "location", savedClub.getLocation(),
+            "owner", Map.of(
+                "id", owner.getId(),
+                "fullName", owner.getFullName(),
+                "username", owner.getUsername()
+            )
+        );
+    }
+    
+    @Transactional
+    public Map<String, Object> join(Long userId, String clubCode) {
+        Long clubId = resourceVersions.clubIdByCode(clubCode);
+        if (clubId == null) {
+            throw new InvalidRequestException("Club not found");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new InvalidRequestException("User not found");
+        }
+        if (membershipIndex.isClubMember(userId, clubId)) {
+            throw new InvalidRequestException("Already a member of this club");
+        }
+        
+        ClubMember member = new ClubMember(clubRepository.getReferenceById(clubId),
+            userRepository.getReferenceById(userId), ClubMember.Role.MEMBER);
+        // A concurrent join of the same user passes the index check too; the unique (club_id, user_id) index catches it
+        try {
+            clubMemberRepository.save(member);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("Already a member of this club");
+        }
+        clubCounterService.memberAdded(clubId);
+        eventPublisher.publishEvent(MembershipChangedEvent.club(
+            MembershipChangedEvent.Type.JOINED, userId, clubId, member.getRole()));
+        return Map.of("clubId", clubId, "role", member.getRole());
+    }
+    
+    @Transactional
+    public void leave(Long clubId, Long userId) {
+        ClubMember member = clubMemberRepository.findByClubIdAndUserId(clubId, userId)
+            .orElseThrow(() -> new InvalidRequestException("Not a member of this club"));
+        
+        clubMemberRepository.delete(member);
+        clubCounterService.memberRemoved(clubId);
+        eventPublisher.publishEvent(MembershipChangedEvent.club(
+            MembershipChangedEvent.Type.LEFT, userId, clubId, member.getRole()));
+    }
+}
@@ -0,0 +1,74 @@
+package com.greenlink.service;
+
+import java.security.SecureRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Generates join codes (like "EAGLES7KQ2M") and reserves them by inserting against the unique constraint.
+// With an alphabet of A symbols, L random characters and W words the namespace is W * A^L
+// (10 * 32^5 ~= 335M by default), so at N existing codes an insert collides with probability N / namespace
+// and the expected number of inserts is 1 / (1 - N / namespace): ~1.03 at 10M clubs.
+@Service
+public class CodeGenerator {
+    
+    public static final String[] CLUB_WORDS = {"EAGLES", "LIONS", "TIGERS", "BEARS", "WOLVES", "HAWKS", "STORM", "FIRE", "THUNDER", "LIGHTNING"};
+    public static final String[] TEAM_WORDS = {"SQUAD", "TEAM", "LIONS", "TIGERS", "EAGLES", "HAWKS", "STORM", "FIRE", "STARS", "UNITED"};
+    
+    // SecureRandom is thread-safe, so one instance is shared by all requests
+    private final SecureRandom random = new SecureRandom();
+    
+    private final char[] alphabet;
+    private final int length;
+    private final int maxAttempts;
+    private final TransactionTemplate transactionTemplate;
+    
+    public CodeGenerator(@Value("${app.codeAlphabet}") String alphabet,
+                         @Value("${app.codeLength}") int length,
+                         @Value("${app.codeMaxAttempts}") int maxAttempts,
+                         PlatformTransactionManager transactionManager) {
+        if (alphabet.isEmpty() || length < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("Invalid code generator configuration");
+        }
+        this.alphabet = alphabet.toCharArray();
+        this.length = length;
+        this.maxAttempts = maxAttempts;
+        
+        // Each attempt gets its own transaction: a unique violation aborts the transaction it happens in
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    // Random code: one of the words followed by `length` characters from the alphabet
+    public String next(String[] words) {
+        String word = words[random.nextInt(words.length)];
+        char[] code = new char[word.length() + length];
+        word.getChars(0, word.length(), code, 0);
+        for (int i = word.length(); i < code.length; i++) {
+            code[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(code);
+    }
+    
+    // Runs `insert` with a fresh code until it commits. A failed insert is only retried when `taken`
+    // confirms the code itself collided; any other integrity violation is rethrown.
+    public <T> T reserve(String[] words, Function<String, T> insert, Predicate<String> taken) {
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            String code = next(words);
+            try {
+                return transactionTemplate.execute(status -> insert.apply(code));
+            } catch (DataIntegrityViolationException e) {
+                if (!taken.test(code)) {
+                    throw e;
+                }
+            }
+        }
+        throw new IllegalStateException("Could not allocate a unique code after " + maxAttempts + " attempts");
+    }
+}
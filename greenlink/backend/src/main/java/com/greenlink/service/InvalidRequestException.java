@@ -0,0 +1,10 @@
+package com.greenlink.service;
+
+// A request the service layer refuses (unknown id, duplicate membership, ...); the message is shown to the
+// client as {"error": message} with a 400. Thrown inside a transaction, it also rolls that transaction back.
+public class InvalidRequestException extends RuntimeException {
+    
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
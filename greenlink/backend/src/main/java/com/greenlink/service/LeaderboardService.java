@@ -0,0 +1,227 @@
+package com.greenlink.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.greenlink.dto.LeaderboardEntry;
+import com.greenlink.event.PlayerChangedEvent;
+import com.greenlink.repository.ClubRepository;
+import com.greenlink.repository.PlayerRepository;
+import com.greenlink.repository.TeamRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// In-memory top-K leaderboards per team and per club. A board is loaded with one limit query the first
+// time it is read and then kept current from PlayerChangedEvents (after commit); it is only reloaded
+// when an update pushes a listed player below the part of the ranking it knows about.
+// Metrics: cache.gets{cache=leaderboards}
+@Service
+public class LeaderboardService {
+    
+    public enum Stat {
+        GOALS("goals"),
+        ASSISTS("assists"),
+        MATCHES_PLAYED("matchesPlayed");
+        
+        private final String param;
+        
+        Stat(String param) {
+            this.param = param;
+        }
+        
+        public String getParam() {
+            return param;
+        }
+        
+        // Accepts the request parameter name ("matchesPlayed") or the enum name; null if unknown
+        public static Stat fromParam(String value) {
+            for (Stat stat : values()) {
+                if (stat.param.equalsIgnoreCase(value) || stat.name().equalsIgnoreCase(value)) {
+                    return stat;
+                }
+            }
+            return null;
+        }
+        
+        Integer valueOf(PlayerChangedEvent event) {
+            switch (this) {
+                case GOALS: return event.getGoals();
+                case ASSISTS: return event.getAssists();
+                default: return event.getMatchesPlayed();
+            }
+        }
+    }
+    
+    // Same order as the repository queries: value descending, then player id
+    private static final Comparator<LeaderboardEntry> RANKING =
+        Comparator.comparingInt(LeaderboardEntry::getValue).reversed()
+            .thenComparing(LeaderboardEntry::getPlayerId);
+    
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final ClubRepository clubRepository;
+    private final Cache<String, Board> boards;
+    private final int size;
+    
+    // Bumped before every event is applied; a load that overlaps an event is not kept
+    private final AtomicLong changes = new AtomicLong();
+    
+    public LeaderboardService(PlayerRepository playerRepository,
+                              TeamRepository teamRepository,
+                              ClubRepository clubRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.leaderboardSize}") int size,
+                              @Value("${app.leaderboardCacheMaxSize}") long maxSize,
+                              @Value("${app.leaderboardTtl}") Duration ttl) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.clubRepository = clubRepository;
+        this.size = size;
+        this.boards = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, boards, "leaderboards");
+    }
+    
+    // Largest limit a board can serve
+    public int getSize() {
+        return size;
+    }
+    
+    public List<LeaderboardEntry> teamBoard(Long teamId, Stat stat, int limit) {
+        List<LeaderboardEntry> entries = board("team:" + teamId + ":" + stat, () -> loadTeam(teamId, stat)).top(limit);
+        // Only hit the teams table when there is nothing to show
+        if (entries.isEmpty() && !teamRepository.existsById(teamId)) {
+            throw new InvalidRequestException("Team not found");
+        }
+        return entries;
+    }
+    
+    public List<LeaderboardEntry> clubBoard(Long clubId, Stat stat, int limit) {
+        List<LeaderboardEntry> entries = board("club:" + clubId + ":" + stat, () -> loadClub(clubId, stat)).top(limit);
+        if (entries.isEmpty() && !clubRepository.existsById(clubId)) {
+            throw new InvalidRequestException("Club not found");
+        }
+        return entries;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        changes.incrementAndGet();
+        for (Stat stat : Stat.values()) {
+            Integer value = event.getType() == PlayerChangedEvent.Type.DELETED ? null : stat.valueOf(event);
+            apply("team:" + event.getTeamId() + ":" + stat, event, value);
+            if (event.getClubId() != null) {
+                apply("club:" + event.getClubId() + ":" + stat, event, value);
+            }
+        }
+    }
+    
+    private void apply(String key, PlayerChangedEvent event, Integer value) {
+        Board board = boards.getIfPresent(key);
+        if (board != null && !board.apply(event.getPlayerId(), event.getName(), event.getTeamId(), value)) {
+            boards.asMap().remove(key, board);
+        }
+    }
+    
+    private Board board(String key, BoardLoader loader) {
+        Board board = boards.getIfPresent(key);
+        if (board != null) {
+            return board;
+        }
+        long seen = changes.get();
+        board = loader.load();
+        boards.put(key, board);
+        // An event may have landed while loading (and missed this board); drop it so the next read reloads
+        if (changes.get() != seen) {
+            boards.asMap().remove(key, board);
+        }
+        return board;
+    }
+    
+    // One row more than the board holds, to know whether the board covers the whole ranking
+    private Board loadTeam(Long teamId, Stat stat) {
+        Pageable page = PageRequest.of(0, size + 1);
+        switch (stat) {
+            case GOALS: return new Board(size, playerRepository.findTopScorersByTeam(teamId, page));
+            case ASSISTS: return new Board(size, playerRepository.findTopAssistsByTeam(teamId, page));
+            default: return new Board(size, playerRepository.findMostActiveByTeam(teamId, page));
+        }
+    }
+    
+    private Board loadClub(Long clubId, Stat stat) {
+        Pageable page = PageRequest.of(0, size + 1);
+        switch (stat) {
+            case GOALS: return new Board(size, playerRepository.findTopScorersByClub(clubId, page));
+            case ASSISTS: return new Board(size, playerRepository.findTopAssistsByClub(clubId, page));
+            default: return new Board(size, playerRepository.findMostActiveByClub(clubId, page));
+        }
+    }
+    
+    private interface BoardLoader {
+        Board load();
+    }
+    
+    // Top `capacity` entries of one ranking. Readers get an immutable snapshot; writers replace it.
+    private static class Board {
+        private final int capacity;
+        private volatile List<LeaderboardEntry> entries;
+        // True when every ranked player is on the board (the team/club has no more than `capacity`)
+        private boolean complete;
+        
+        Board(int capacity, List<LeaderboardEntry> rows) {
+            this.capacity = capacity;
+            this.complete = rows.size() <= capacity;
+            this.entries = Collections.unmodifiableList(new ArrayList<>(rows.subList(0, Math.min(rows.size(), capacity))));
+        }
+        
+        List<LeaderboardEntry> top(int limit) {
+            List<LeaderboardEntry> snapshot = entries;
+            return snapshot.size() <= limit ? snapshot : snapshot.subList(0, limit);
+        }
+        
+        // Applies a player's new value (null = no longer ranked); false if the board must be reloaded
+        synchronized boolean apply(Long playerId, String name, Long teamId, Integer value) {
+            List<LeaderboardEntry> next = new ArrayList<>(entries);
+            LeaderboardEntry last = next.isEmpty() ? null : next.get(next.size() - 1);
+            boolean wasListed = next.removeIf(entry -> entry.getPlayerId().equals(playerId));
+            
+            LeaderboardEntry updated = value != null ? new LeaderboardEntry(playerId, name, teamId, value) : null;
+            // Unlisted players rank somewhere at or below `last`; a board that is not complete knows nothing further down
+            boolean fits = updated != null && (complete || last == null || RANKING.compare(updated, last) <= 0);
+            
+            if (!fits) {
+                if (!wasListed) {
+                    return true;
+                }
+                if (!complete) {
+                    return false;
+                }
+            } else {
+                int index = Collections.binarySearch(next, updated, RANKING);
+                next.add(index < 0 ? -index - 1 : index, updated);
+                if (next.size() > capacity) {
+                    next.remove(next.size() - 1);
+                    complete = false;
+                }
+            }
+            entries = Collections.unmodifiableList(next);
+            return true;
+        }
+    }
+}
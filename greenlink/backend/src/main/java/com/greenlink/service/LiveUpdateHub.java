@@ -0,0 +1,246 @@
+package com.greenlink.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenlink.event.PlayerChangedEvent;
+import com.greenlink.event.TeamChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+// Server-Sent Events fan-out for team and club channels. Committed changes are serialised once and
+// queued per subscriber; a small sender pool drains the queues, so a slow client never blocks the
+// writer or other clients. A subscriber whose queue overflows gets its backlog replaced by one
+// "resync" event (refetch, then carry on with deltas).
+// Metrics: live.subscribers, live.overflows, executor.*{name=live}
+@Component
+public class LiveUpdateHub implements DisposableBean {
+    
+    private static final LiveEvent HEARTBEAT = new LiveEvent(null, null);
+    private static final LiveEvent RESYNC = new LiveEvent("resync", "{}");
+    
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor sender;
+    private final Counter overflows;
+    private final int bufferSize;
+    private final long emitterTimeoutMs;
+    
+    private final Map<String, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    
+    public LiveUpdateHub(ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.liveSenderThreads}") int senderThreads,
+                         @Value("${app.liveBufferSize}") int bufferSize,
+                         @Value("${app.liveEmitterTimeout}") Duration emitterTimeout) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMs = emitterTimeout.toMillis();
+        
+        // At most one drain task per subscriber is queued at a time, so the task queue is bounded by the subscriber count
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            task -> {
+                Thread thread = new Thread(task, "live-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        
+        ExecutorServiceMetrics.monitor(meterRegistry, sender, "live");
+        meterRegistry.gauge("live.subscribers", subscriberCount);
+        this.overflows = meterRegistry.counter("live.overflows");
+    }
+    
+    public SseEmitter subscribeTeam(Long teamId) {
+        return subscribe("team:" + teamId);
+    }
+    
+    public SseEmitter subscribeClub(Long clubId) {
+        return subscribe("club:" + clubId);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        Map<String, Object> delta = new HashMap<>();
+        delta.put("id", event.getPlayerId());
+        delta.put("teamId", event.getTeamId());
+        if (event.getType() != PlayerChangedEvent.Type.DELETED) {
+            delta.put("name", event.getName());
+            delta.put("position", event.getPosition());
+            delta.put("jerseyNumber", event.getJerseyNumber());
+            delta.put("matchesPlayed", event.getMatchesPlayed());
+            delta.put("goals", event.getGoals());
+            delta.put("assists", event.getAssists());
+            delta.put("yellowCards", event.getYellowCards());
+            delta.put("redCards", event.getRedCards());
+        }
+        LiveEvent live = event("player." + event.getType().name().toLowerCase(Locale.ROOT), delta);
+        publish("team:" + event.getTeamId(), live);
+        if (event.getClubId() != null) {
+            publish("club:" + event.getClubId(), live);
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        Map<String, Object> delta = new HashMap<>();
+        delta.put("id", event.getTeamId());
+        delta.put("clubId", event.getClubId());
+        delta.put("name", event.getName());
+        delta.put("teamCode", event.getTeamCode());
+        delta.put("ageGroup", event.getAgeGroup());
+        publish("club:" + event.getClubId(), event("team." + event.getType().name().toLowerCase(Locale.ROOT), delta));
+    }
+    
+    // Keeps idle connections open through proxies and detects clients that went away
+    @Scheduled(fixedDelayString = "${app.liveHeartbeatMs}")
+    public void heartbeat() {
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (subscriber.queue.isEmpty()) {
+                subscriber.offer(HEARTBEAT);
+            }
+        }));
+    }
+    
+    @Override
+    public void destroy() {
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        sender.shutdownNow();
+    }
+    
+    private SseEmitter subscribe(String channel) {
+        Subscriber subscriber = new Subscriber(channel, new SseEmitter(emitterTimeoutMs));
+        subscriber.emitter.onCompletion(subscriber::remove);
+        subscriber.emitter.onTimeout(subscriber::remove);
+        subscriber.emitter.onError(error -> subscriber.remove());
+        
+        // compute() so the add cannot land in a set that remove() is dropping from the map
+        channels.compute(channel, (key, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        subscriberCount.incrementAndGet();
+        // Sends the response headers right away
+        subscriber.offer(HEARTBEAT);
+        return subscriber.emitter;
+    }
+    
+    private void publish(String channel, LiveEvent event) {
+        Set<Subscriber> subscribers = channels.get(channel);
+        if (subscribers != null) {
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+    
+    private LiveEvent event(String name, Map<String, Object> delta) {
+        try {
+            return new LiveEvent(name, objectMapper.writeValueAsString(delta));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise live update", e);
+        }
+    }
+    
+    // A serialised event, shared by all subscribers of a channel (name null = heartbeat comment)
+    private static class LiveEvent {
+        private final String name;
+        private final String data;
+        
+        LiveEvent(String name, String data) {
+            this.name = name;
+            this.data = data;
+        }
+        
+        // SseEventBuilder is stateful, so each send gets a fresh one
+        SseEmitter.SseEventBuilder toSse() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+    
+    private class Subscriber {
+        private final String channel;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<LiveEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        
+        Subscriber(String channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+        
+        void offer(LiveEvent event) {
+            if (removed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                // Too far behind: whatever is queued is superseded by a refetch
+                queue.clear();
+                queue.offer(RESYNC);
+                overflows.increment();
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+        
+        private void drain() {
+            try {
+                LiveEvent event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event.toSse());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away (or the emitter already completed)
+                remove();
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An offer may have slipped in between the last poll and clearing the flag
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+        
+        void remove() {
+            if (removed.compareAndSet(false, true)) {
+                queue.clear();
+                channels.computeIfPresent(channel, (key, subscribers) -> {
+                    subscribers.remove(this);
+                    return subscribers.isEmpty() ? null : subscribers;
+                });
+                subscriberCount.decrementAndGet();
+            }
+        }
+    }
+}
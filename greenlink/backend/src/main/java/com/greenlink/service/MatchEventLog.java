@@ -0,0 +1,147 @@
+package com.greenlink.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.greenlink.dto.MatchEvent;
+
+// Local append-only log of accepted match events, split into segments. A segment is sealed when its
+// events are handed to the database and deleted once they are committed; segments still on disk at
+// startup are replayed (at-least-once). One line per event: "<playerId>,<TYPE>".
+// Not thread-safe apart from force(): MatchEventService serialises access.
+@Component
+public class MatchEventLog {
+    
+    private static final Logger log = LoggerFactory.getLogger(MatchEventLog.class);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    
+    private final Path directory;
+    private final boolean sync;
+    private long sequence;
+    private Path currentPath;
+    private FileChannel current;
+    
+    public MatchEventLog(@Value("${app.matchEventLogDir}") String directory,
+                         @Value("${app.matchEventLogSync}") boolean sync) {
+        this.directory = Paths.get(directory);
+        this.sync = sync;
+    }
+    
+    // Segments left over from a previous run, oldest first
+    public List<Path> existingSegments() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+    
+    // A torn last line (crash mid-write) is skipped; it was never acknowledged
+    public List<MatchEvent> read(Path segment) throws IOException {
+        List<MatchEvent> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comma = line.indexOf(',');
+                try {
+                    events.add(new MatchEvent(Long.valueOf(line.substring(0, comma)),
+                        MatchEvent.Type.valueOf(line.substring(comma + 1))));
+                } catch (RuntimeException e) {
+                    log.warn("Skipping unreadable line in {}: {}", segment.getFileName(), line);
+                }
+            }
+        }
+        return events;
+    }
+    
+    // Writes the events to the current segment. Call force() with the returned channel (outside the
+    // caller's lock, so concurrent requests share one device flush) before acknowledging them.
+    public FileChannel append(List<MatchEvent> events) {
+        StringBuilder lines = new StringBuilder(events.size() * 16);
+        for (MatchEvent event : events) {
+            lines.append(event.getPlayerId()).append(',').append(event.getType().name()).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            if (current == null) {
+                open();
+            }
+            while (buffer.hasRemaining()) {
+                current.write(buffer);
+            }
+            return current;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write match event log", e);
+        }
+    }
+    
+    // No-op unless app.matchEventLogSync is set. A segment sealed in the meantime was forced by seal().
+    public void force(FileChannel segment) {
+        if (!sync) {
+            return;
+        }
+        try {
+            segment.force(false);
+        } catch (ClosedChannelException e) {
+            // Sealed (and forced) concurrently
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not sync match event log", e);
+        }
+    }
+    
+    // Closes the current segment and returns it (null if nothing was written since the last seal)
+    public Path seal() {
+        if (current == null) {
+            return null;
+        }
+        Path sealed = currentPath;
+        try {
+            current.force(false);
+            current.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not seal match event log segment", e);
+        } finally {
+            current = null;
+            currentPath = null;
+        }
+        return sealed;
+    }
+    
+    public void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            // Harmless apart from a replay of already-applied events on the next start
+            log.warn("Could not delete match event log segment {}", segment, e);
+        }
+    }
+    
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        // Zero-padded so name order is creation order
+        currentPath = directory.resolve(String.format("%s%013d-%06d%s",
+            SEGMENT_PREFIX, System.currentTimeMillis(), sequence++ % 1_000_000, SEGMENT_SUFFIX));
+        current = FileChannel.open(currentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+}
@@ -0,0 +1,203 @@
+package com.greenlink.service;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.greenlink.dto.MatchEvent;
+import com.greenlink.event.PlayerEventPublisher;
+import com.greenlink.repository.PlayerRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Live match events: each accepted request is appended to the local log and folded into per-player
+// deltas; every app.matchEventFlushIntervalMs the deltas are written as one batch of increment UPDATEs.
+// Metrics: match.events.ingested, match.events.flushed (player rows), match.events.flush (timer)
+@Service
+public class MatchEventService {
+    
+    private static final Logger log = LoggerFactory.getLogger(MatchEventService.class);
+    
+    private final MatchEventLog eventLog;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlayerRepository playerRepository;
+    private final PlayerEventPublisher playerEvents;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter ingested;
+    private final Counter flushed;
+    private final Timer flushTimer;
+    
+    // Guards pending, sealed and the log; held only for in-memory work and the log write (not the sync)
+    private final Object lock = new Object();
+    private Map<Long, Delta> pending = new HashMap<>();
+    // Sealed log segments whose events are not committed yet
+    private final List<Path> sealed = new ArrayList<>();
+    
+    public MatchEventService(MatchEventLog eventLog,
+                             NamedParameterJdbcTemplate jdbcTemplate,
+                             PlayerRepository playerRepository,
+                             PlayerEventPublisher playerEvents,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}") int batchSize) {
+        this.eventLog = eventLog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.playerRepository = playerRepository;
+        this.playerEvents = playerEvents;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.ingested = meterRegistry.counter("match.events.ingested");
+        this.flushed = meterRegistry.counter("match.events.flushed");
+        this.flushTimer = meterRegistry.timer("match.events.flush");
+    }
+    
+    // Returns once the events are in the log; they reach the players table with the next flush
+    public void ingest(List<MatchEvent> events) {
+        FileChannel segment;
+        synchronized (lock) {
+            segment = eventLog.append(events);
+            for (MatchEvent event : events) {
+                pending.computeIfAbsent(event.getPlayerId(), id -> new Delta()).add(event.getType());
+            }
+        }
+        eventLog.force(segment);
+        ingested.increment(events.size());
+    }
+    
+    // Anything still in the log was accepted but may not have been committed (at-least-once). Runs before
+    // the first request or flush; the recovered deltas go out with the first scheduled flush.
+    @PostConstruct
+    public void recover() throws IOException {
+        int recovered = 0;
+        synchronized (lock) {
+            for (Path segment : eventLog.existingSegments()) {
+                for (MatchEvent event : eventLog.read(segment)) {
+                    pending.computeIfAbsent(event.getPlayerId(), id -> new Delta()).add(event.getType());
+                    recovered++;
+                }
+                sealed.add(segment);
+            }
+        }
+        if (recovered > 0) {
+            log.info("Recovered {} match events from the local log", recovered);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${app.matchEventFlushIntervalMs}")
+    @PreDestroy
+    public synchronized void flush() {
+        Map<Long, Delta> batch;
+        List<Path> segments;
+        synchronized (lock) {
+            Path segment = eventLog.seal();
+            if (segment != null) {
+                sealed.add(segment);
+            }
+            batch = pending;
+            pending = new HashMap<>();
+            segments = new ArrayList<>(sealed);
+        }
+        
+        if (!batch.isEmpty()) {
+            try {
+                flushTimer.record(() -> apply(batch));
+            } catch (RuntimeException e) {
+                // Keep the deltas (and their segments) for the next attempt
+                log.error("Could not flush {} match event deltas, will retry", batch.size(), e);
+                synchronized (lock) {
+                    batch.forEach((playerId, delta) -> pending.merge(playerId, delta, Delta::plus));
+                }
+                return;
+            }
+            flushed.increment(batch.size());
+        }
+        
+        synchronized (lock) {
+            sealed.removeAll(segments);
+        }
+        segments.forEach(eventLog::delete);
+    }
+    
+    private void apply(Map<Long, Delta> batch) {
+        // Ascending ids so concurrent writers lock rows in the same order
+        List<Long> playerIds = new ArrayList<>(batch.keySet());
+        Collections.sort(playerIds);
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < playerIds.size(); from += batchSize) {
+                List<Long> chunk = playerIds.subList(from, Math.min(from + batchSize, playerIds.size()));
+                SqlParameterSource[] rows = new SqlParameterSource[chunk.size()];
+                for (int i = 0; i < rows.length; i++) {
+                    rows[i] = batch.get(chunk.get(i)).toParameters(chunk.get(i));
+                }
+                // Same statement as PlayerRepository.incrementStats, batched
+                int[] counts = jdbcTemplate.batchUpdate(PlayerRepository.INCREMENT_STATS_SQL, rows);
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] == 0) {
+                        log.warn("Dropping match events for unknown player {}", chunk.get(i));
+                    }
+                }
+                // New totals for leaderboards and stats (listeners run after commit)
+                playerRepository.findAllById(chunk).forEach(playerEvents::updated);
+            }
+        });
+    }
+    
+    // Net change for one player since the last flush
+    private static class Delta {
+        int matchesPlayed;
+        int goals;
+        int assists;
+        int yellowCards;
+        int redCards;
+        
+        void add(MatchEvent.Type type) {
+            switch (type) {
+                case APPEARANCE: matchesPlayed++; break;
+                case GOAL: goals++; break;
+                case ASSIST: assists++; break;
+                case YELLOW_CARD: yellowCards++; break;
+                case RED_CARD: redCards++; break;
+            }
+        }
+        
+        Delta plus(Delta other) {
+            matchesPlayed += other.matchesPlayed;
+            goals += other.goals;
+            assists += other.assists;
+            yellowCards += other.yellowCards;
+            redCards += other.redCards;
+            return this;
+        }
+        
+        SqlParameterSource toParameters(Long playerId) {
+            return new MapSqlParameterSource("id", playerId)
+                .addValue("matchesPlayed", matchesPlayed)
+                .addValue("goals", goals)
+                .addValue("assists", assists)
+                .addValue("yellowCards", yellowCards)
+                .addValue("redCards", redCards);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.greenlink.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.greenlink.dto.MembershipRow;
+import com.greenlink.event.MembershipChangedEvent;
+import com.greenlink.model.ClubMember;
+import com.greenlink.repository.ClubMemberRepository;
+import com.greenlink.repository.TeamMemberRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// In-memory membership index: user -> clubs (with role) and user -> teams, the direction every check reads.
+// Each is a primitive long -> sorted id set map, so membership and role checks are a hash
+// probe plus a binary search with no boxing or allocation. Warmed from a streaming query at startup;
+// membership writes are applied after commit. Until the warm-up finishes, checks go to the database
+// and writes are queued, then replayed in commit order so a leave during the load is not lost.
+// Metrics: membership.index.edges
+@Component
+public class MembershipIndex {
+    
+    private static final Logger log = LoggerFactory.getLogger(MembershipIndex.class);
+    private static final ClubMember.Role[] ROLES = ClubMember.Role.values();
+    private static final byte NO_ROLE = -1;
+    
+    @Autowired
+    private ClubMemberRepository clubMemberRepository;
+    
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+    
+    private final Adjacency clubsByUser = new Adjacency();
+    private final Adjacency teamsByUser = new Adjacency();
+    
+    // Guards ready and pending (writes only; checks read the volatile flag)
+    private final Object warmUpLock = new Object();
+    private volatile boolean ready;
+    private Queue<MembershipChangedEvent> pending = new ArrayDeque<>();
+    
+    public MembershipIndex(MeterRegistry meterRegistry) {
+        meterRegistry.gauge("membership.index.edges", this, index -> index.clubsByUser.edges + index.teamsByUser.edges);
+    }
+    
+    public boolean isClubMember(long userId, long clubId) {
+        return clubRole(userId, clubId) != null;
+    }
+    
+    // null when the user is not a member of the club
+    public ClubMember.Role clubRole(long userId, long clubId) {
+        if (!ready) {
+            return clubMemberRepository.findByClubIdAndUserId(clubId, userId).map(ClubMember::getRole).orElse(null);
+        }
+        byte role = clubsByUser.role(userId, clubId);
+        return role != NO_ROLE ? ROLES[role] : null;
+    }
+    
+    public boolean isTeamMember(long userId, long teamId) {
+        if (!ready) {
+            return teamMemberRepository.existsByTeamIdAndUserId(teamId, userId);
+        }
+        return teamsByUser.role(userId, teamId) != NO_ROLE;
+    }
+    
+    // A user's clubs with the role in each, by club id. Ids and roles come from one snapshot, so a leave
+    // racing the read drops both or neither. Read from the database until the warm-up is done.
+    public List<MembershipRow> clubMembershipsOf(long userId) {
+        if (!ready) {
+            return clubMemberRepository.findRowsByUserId(userId);
+        }
+        Neighbours clubs = clubsByUser.neighbours(userId);
+        if (clubs == null) {
+            return List.of();
+        }
+        List<MembershipRow> rows = new ArrayList<>(clubs.ids.length);
+        for (int i = 0; i < clubs.ids.length; i++) {
+            rows.add(new MembershipRow(userId, clubs.ids[i], ROLES[clubs.roles[i]]));
+        }
+        return rows;
+    }
+    
+    // A user's team ids, sorted (empty when none); read from the database until the warm-up is done
+    public long[] teamsOf(long userId) {
+        if (!ready) {
+            return teamMemberRepository.findTeamIdsByUserId(userId).stream().mapToLong(Long::longValue).toArray();
+        }
+        return teamsByUser.ids(userId);
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        try (Stream<MembershipRow> rows = clubMemberRepository.streamAllRows()) {
+            rows.forEach(row -> addClub(row.getUserId(), row.getTargetId(), row.getRole()));
+        }
+        try (Stream<MembershipRow> rows = teamMemberRepository.streamAllRows()) {
+            rows.forEach(row -> addTeam(row.getUserId(), row.getTargetId()));
+        }
+        synchronized (warmUpLock) {
+            pending.forEach(this::apply);
+            pending = null;
+            ready = true;
+        }
+        log.info("Indexed {} club and {} team memberships", clubsByUser.edges, teamsByUser.edges);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        synchronized (warmUpLock) {
+            if (!ready) {
+                pending.add(event);
+                return;
+            }
+            apply(event);
+        }
+    }
+    
+    private void apply(MembershipChangedEvent event) {
+        boolean joined = event.getType() == MembershipChangedEvent.Type.JOINED;
+        if (event.isTeamMembership()) {
+            if (joined) {
+                addTeam(event.getUserId(), event.getTeamId());
+            } else {
+                teamsByUser.remove(event.getUserId(), event.getTeamId());
+            }
+        } else if (joined) {
+            addClub(event.getUserId(), event.getClubId(), event.getRole());
+        } else {
+            clubsByUser.remove(event.getUserId(), event.getClubId());
+        }
+    }
+    
+    private void addClub(long userId, long clubId, ClubMember.Role role) {
+        clubsByUser.put(userId, clubId, (byte) role.ordinal());
+    }
+    
+    private void addTeam(long userId, long teamId) {
+        teamsByUser.put(userId, teamId, (byte) 0);
+    }
+    
+    // Open-addressing long -> Neighbours map (linear probing; key 0 marks a free slot, ids start at 1).
+    // Readers take an optimistic stamp and fall back to the read lock only if a write overlapped.
+    static final class Adjacency {
+        private final StampedLock lock = new StampedLock();
+        private volatile Table table = new Table(16);
+        private int size;
+        volatile long edges;
+        
+        byte role(long key, long id) {
+            long stamp = lock.tryOptimisticRead();
+            Neighbours neighbours = table.get(key);
+            byte role = neighbours != null ? neighbours.role(id) : NO_ROLE;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    neighbours = table.get(key);
+                    role = neighbours != null ? neighbours.role(id) : NO_ROLE;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return role;
+        }
+        
+        long[] ids(long key) {
+            Neighbours neighbours = neighbours(key);
+            return neighbours != null ? neighbours.ids.clone() : new long[0];
+        }
+        
+        // The set itself (immutable, so it can be read after the lock is released); null when none
+        Neighbours neighbours(long key) {
+            long stamp = lock.readLock();
+            try {
+                return table.get(key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        
+        void put(long key, long id, byte role) {
+            long stamp = lock.writeLock();
+            try {
+                if ((size + 1) * 2 > table.keys.length) {
+                    table = table.resized(table.keys.length * 2);
+                }
+                Neighbours current = table.get(key);
+                if (current == null) {
+                    size++;
+                }
+                Neighbours next = current != null ? current.with(id, role) : Neighbours.of(id, role);
+                edges += next.ids.length - (current != null ? current.ids.length : 0);
+                table.put(key, next);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+        
+        // Keys stay in the table once seen (with an empty set), which avoids deletes in the probe chain
+        void remove(long key, long id) {
+            long stamp = lock.writeLock();
+            try {
+                Neighbours current = table.get(key);
+                if (current != null) {
+                    Neighbours next = current.without(id);
+                    edges -= current.ids.length - next.ids.length;
+                    table.put(key, next);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+    
+    private static final class Table {
+        final long[] keys;
+        final Neighbours[] values;
+        
+        Table(int capacity) {
+            keys = new long[capacity];
+            values = new Neighbours[capacity];
+        }
+        
+        Neighbours get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                long current = keys[slot];
+                if (current == key) {
+                    return values[slot];
+                }
+                if (current == 0) {
+                    return null;
+                }
+            }
+        }
+        
+        void put(long key, Neighbours value) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != key && keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            // Value first: an optimistic reader that sees the key but not yet the value fails validation anyway
+            values[slot] = value;
+            keys[slot] = key;
+        }
+        
+        Table resized(int capacity) {
+            Table resized = new Table(capacity);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    resized.put(keys[i], values[i]);
+                }
+            }
+            return resized;
+        }
+        
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+    
+    // Immutable sorted ids with a role per id; writers replace the whole set
+    private static final class Neighbours {
+        final long[] ids;
+        final byte[] roles;
+        
+        private Neighbours(long[] ids, byte[] roles) {
+            this.ids = ids;
+            this.roles = roles;
+        }
+        
+        static Neighbours of(long id, byte role) {
+            return new Neighbours(new long[] {id}, new byte[] {role});
+        }
+        
+        byte role(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index >= 0 ? roles[index] : NO_ROLE;
+        }
+        
+        Neighbours with(long id, byte role) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0) {
+                byte[] newRoles = roles.clone();
+                newRoles[index] = role;
+                return new Neighbours(ids, newRoles);
+            }
+            int insertAt = -index - 1;
+            long[] newIds = new long[ids.length + 1];
+            byte[] newRoles = new byte[roles.length + 1];
+            System.arraycopy(ids, 0, newIds, 0, insertAt);
+            System.arraycopy(roles, 0, newRoles, 0, insertAt);
+            newIds[insertAt] = id;
+            newRoles[insertAt] = role;
+            System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+            System.arraycopy(roles, insertAt, newRoles, insertAt + 1, roles.length - insertAt);
+            return new Neighbours(newIds, newRoles);
+        }
+        
+        Neighbours without(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index < 0) {
+                return this;
+            }
+            long[] newIds = new long[ids.length - 1];
+            byte[] newRoles = new byte[roles.length - 1];
+            System.arraycopy(ids, 0, newIds, 0, index);
+            System.arraycopy(roles, 0, newRoles, 0, index);
+            System.arraycopy(ids, index + 1, newIds, index, ids.length - index - 1);
+            System.arraycopy(roles, index + 1, newRoles, index, roles.length - index - 1);
+            return new Neighbours(newIds, newRoles);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.greenlink.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.greenlink.dto.CreatePlayerRequest;
+import com.greenlink.dto.ImportResult;
+import com.greenlink.event.PlayerEventPublisher;
+import com.greenlink.model.Player;
+import com.greenlink.model.Team;
+import com.greenlink.repository.PlayerRepository;
+import com.greenlink.repository.TeamRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// Bulk player import: teams are resolved once per import, valid rows are inserted in JDBC batches
+// (one transaction per batch), invalid rows are reported without stopping the rest.
+@Service
+public class PlayerImportService {
+    
+    private static final String[] CSV_COLUMNS = {"name", "position", "jerseynumber", "teamid"};
+    
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerEventPublisher playerEvents;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public PlayerImportService(PlayerRepository playerRepository,
+                               TeamRepository teamRepository,
+                               PlayerEventPublisher playerEvents,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}") int batchSize) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.playerEvents = playerEvents;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+    
+    public ImportResult importPlayers(List<CreatePlayerRequest> requests) {
+        ImportRun run = new ImportRun();
+        for (int i = 0; i < requests.size(); i++) {
+            run.accept(i + 1, requests.get(i));
+        }
+        return run.finish();
+    }
+    
+    // CSV with a header row naming the columns: name,position,jerseyNumber,teamId (any order)
+    public ImportResult importCsv(Reader input) throws IOException {
+        ImportRun run = new ImportRun();
+        BufferedReader reader = new BufferedReader(input);
+        
+        String header = reader.readLine();
+        if (header == null) {
+            return run.finish();
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> headerFields = splitCsvLine(header);
+        for (int i = 0; i < headerFields.size(); i++) {
+            columns.put(headerFields.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : CSV_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                run.result.addError(0, "Missing CSV column: " + column);
+                return run.finish();
+            }
+        }
+        
+        int row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            List<String> fields = splitCsvLine(line);
+            try {
+                CreatePlayerRequest request = new CreatePlayerRequest();
+                request.setName(field(fields, columns.get("name")));
+                request.setPosition(field(fields, columns.get("position")));
+                String jerseyNumber = field(fields, columns.get("jerseynumber"));
+                request.setJerseyNumber(jerseyNumber != null ? Integer.valueOf(jerseyNumber) : null);
+                String teamId = field(fields, columns.get("teamid"));
+                request.setTeamId(teamId != null ? Long.valueOf(teamId) : null);
+                run.accept(row, request);
+            } catch (NumberFormatException e) {
+                run.result.addError(row, "Invalid number: " + e.getMessage());
+            }
+        }
+        return run.finish();
+    }
+    
+    // State for one import: team lookups are cached, rows are buffered up to one JDBC batch
+    private class ImportRun {
+        final ImportResult result = new ImportResult();
+        final Map<Long, Team> teams = new HashMap<>();
+        final List<Player> pending = new ArrayList<>();
+        final List<Integer> pendingRows = new ArrayList<>();
+        
+        void accept(int row, CreatePlayerRequest request) {
+            if (request == null || request.getName() == null || request.getName().isBlank()) {
+                result.addError(row, "Name is required");
+                return;
+            }
+            if (request.getTeamId() == null) {
+                result.addError(row, "teamId is required");
+                return;
+            }
+            Team team = resolveTeam(request.getTeamId());
+            if (team == null) {
+                result.addError(row, "Team not found");
+                return;
+            }
+            
+            Player player = new Player();
+            player.setName(request.getName());
+            player.setPosition(request.getPosition());
+            player.setJerseyNumber(request.getJerseyNumber());
+            player.setTeam(team);
+            pending.add(player);
+            pendingRows.add(row);
+            
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+        
+        ImportResult finish() {
+            flush();
+            return result;
+        }
+        
+        // One query per distinct team; a reference proxy is enough to set the foreign key
+        private Team resolveTeam(Long teamId) {
+            if (!teams.containsKey(teamId)) {
+                teams.put(teamId, teamRepository.existsById(teamId) ? teamRepository.getReferenceById(teamId) : null);
+            }
+            return teams.get(teamId);
+        }
+        
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    playerRepository.saveAll(pending);
+                    // Flushed through the repository so a failed insert surfaces as a DataAccessException
+                    playerRepository.flush();
+                    // Delivered after commit, so a rolled-back batch announces nothing
+                    pending.forEach(playerEvents::created);
+                });
+                result.addImported(pending.size());
+            } catch (DataAccessException e) {
+                // Retry the failed batch row by row to pinpoint the offending rows
+                for (int i = 0; i < pending.size(); i++) {
+                    Player player = pending.get(i);
+                    player.setId(null);
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> playerEvents.created(playerRepository.saveAndFlush(player)));
+                        result.addImported(1);
+                    } catch (DataAccessException rowFailure) {
+                        result.addError(pendingRows.get(i), "Could not save player: " + rowFailure.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+            // Keep the persistence context from growing with the import
+            entityManager.clear();
+            pending.clear();
+            pendingRows.clear();
+        }
+    }
+    
+    private static String field(List<String> fields, int index) {
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+    
+    // Splits one CSV line, honouring double-quoted fields and "" escapes
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
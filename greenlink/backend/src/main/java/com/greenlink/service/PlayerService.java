@@ -0,0 +1,116 @@
+package com.greenlink.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.greenlink.dto.CreatePlayerRequest;
+import com.greenlink.dto.PatchPlayerRequest;
+import com.greenlink.dto.PlayerView;
+import com.greenlink.dto.StatIncrements;
+import com.greenlink.event.PlayerEventPublisher;
+import com.greenlink.model.Player;
+import com.greenlink.model.Team;
+import com.greenlink.repository.PlayerRepository;
+import com.greenlink.repository.TeamRepository;
+
+// Player use cases. Each method is one transaction and returns flat PlayerViews built inside it, so
+// nothing lazy is left for serialisation. Change events are published in the transaction and delivered
+// after commit.
+@Service
+public class PlayerService {
+    
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerEventPublisher playerEvents;
+    
+    public PlayerService(PlayerRepository playerRepository,
+                         TeamRepository teamRepository,
+                         PlayerEventPublisher playerEvents) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.playerEvents = playerEvents;
+    }
+    
+    @Transactional(readOnly = true)
+    public List<PlayerView> roster(Long teamId) {
+        List<PlayerView> players = playerRepository.findViewsByTeamId(teamId);
+        // Only hit the teams table when there is nothing to show
+        if (players.isEmpty() && !teamRepository.existsById(teamId)) {
+            throw new InvalidRequestException("Team not found");
+        }
+        return players;
+    }
+    
+    @Transactional
+    public PlayerView create(CreatePlayerRequest request) {
+        Team team = teamRepository.findById(request.getTeamId())
+            .orElseThrow(() -> new InvalidRequestException("Team not found"));
+        
+        Player player = new Player();
+        player.setName(request.getName());
+        player.setPosition(request.getPosition());
+        player.setJerseyNumber(request.getJerseyNumber());
+        player.setTeam(team);
+        
+        Player savedPlayer = playerRepository.save(player);
+        playerEvents.created(savedPlayer);
+        return PlayerView.of(savedPlayer);
+    }
+    
+    // Full replace of the editable fields
+    @Transactional
+    public PlayerView update(Long id, Player details) {
+        Player player = find(id);
+        player.setName(details.getName());
+        player.setPosition(details.getPosition());
+        player.setJerseyNumber(details.getJerseyNumber());
+        player.setMatchesPlayed(details.getMatchesPlayed());
+        player.setGoals(details.getGoals());
+        player.setAssists(details.getAssists());
+        player.setYellowCards(details.getYellowCards());
+        player.setRedCards(details.getRedCards());
+        
+        playerEvents.updated(player);
+        return PlayerView.of(player);
+    }
+    
+    // Partial update: only the fields present are changed (and, with @DynamicUpdate, written).
+    // Increments are applied first as one atomic UPDATE.
+    @Transactional
+    public PlayerView patch(Long id, PatchPlayerRequest request) {
+        StatIncrements increments = request.getIncrements();
+        if (increments != null && !increments.isEmpty()
+                && playerRepository.incrementStats(id, increments.getMatchesPlayed(), increments.getGoals(),
+                    increments.getAssists(), increments.getYellowCards(), increments.getRedCards()) == 0) {
+            throw new InvalidRequestException("Player not found");
+        }
+        
+        // Read after the increment so the response (and the change event) carry the new totals
+        Player player = find(id);
+        if (request.getName() != null) player.setName(request.getName());
+        if (request.getPosition() != null) player.setPosition(request.getPosition());
+        if (request.getJerseyNumber() != null) player.setJerseyNumber(request.getJerseyNumber());
+        if (request.getMatchesPlayed() != null) player.setMatchesPlayed(request.getMatchesPlayed());
+        if (request.getGoals() != null) player.setGoals(request.getGoals());
+        if (request.getAssists() != null) player.setAssists(request.getAssists());
+        if (request.getYellowCards() != null) player.setYellowCards(request.getYellowCards());
+        if (request.getRedCards() != null) player.setRedCards(request.getRedCards());
+        
+        // Dirty checking writes whatever changed at commit
+        playerEvents.updated(player);
+        return PlayerView.of(player);
+    }
+    
+    @Transactional
+    public void delete(Long id) {
+        Player player = find(id);
+        playerRepository.delete(player);
+        playerEvents.deleted(player);
+    }
+    
+    private Player find(Long id) {
+        return playerRepository.findById(id).orElseThrow(() -> new InvalidRequestException("Player not found"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.greenlink.service;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.greenlink.config.ReplicaRouting;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+// Runs the database part of hot GETs off the servlet thread. The controller answers 304s and cache hits
+// itself and only hands misses to this pool as an async request, so the Tomcat thread goes back to
+// serving connections while the read waits for a worker. The pool is a slice of the Hikari pool and its
+// queue is bounded: when it is full the request gets a 503 right away instead of piling up.
+// Work here must load everything it returns inside its own transaction (projections or fetch joins).
+// The request's attributes are bound on the worker so per-endpoint metrics still see the route.
+// Metrics: executor.*{name=reads}, reads.rejected
+@Component
+public class ReadPool implements DisposableBean {
+    
+    private final ReplicaRouting routing;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+    
+    public ReadPool(ReplicaRouting routing,
+                    MeterRegistry meterRegistry,
+                    @Value("${app.readThreads}") int threads,
+                    @Value("${app.readQueueCapacity}") int queueCapacity) {
+        this.routing = routing;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            task -> {
+                Thread thread = new Thread(task, "read-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "reads");
+        this.rejected = meterRegistry.counter("reads.rejected");
+    }
+    
+    // fromPrimary: the data changed so recently that a read replica may not have it yet
+    public CompletableFuture<ResponseEntity<?>> read(boolean fromPrimary, Supplier<ResponseEntity<?>> read) {
+        Supplier<ResponseEntity<?>> routed = routing.propagate(fromPrimary, read);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                RequestContextHolder.setRequestAttributes(attributes);
+                try {
+                    return routed.get();
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.<ResponseEntity<?>>completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(Map.of("error", "Server is busy, please retry")));
+        }
+    }
+    
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,179 @@
+package com.greenlink.service;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.greenlink.event.ClubCountersReconciledEvent;
+import com.greenlink.event.MembershipChangedEvent;
+import com.greenlink.event.PlayerChangedEvent;
+import com.greenlink.event.TeamChangedEvent;
+import com.greenlink.repository.ClubRepository;
+import com.greenlink.repository.TeamRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// In-memory version stamps per team and club, used as strong ETags for conditional GETs.
+// A stamp is bumped after every committed write to the aggregate, so an If-None-Match check needs
+// no query. Callers must read the tag BEFORE loading the data: a write that commits in between
+// then leaves the response tagged with the older stamp, and the next request refetches.
+// Stamps are per process; the epoch keeps tags from before a restart (or a reset) from matching.
+// The time of the last write also tells readers whether a read replica may still lag behind it: a replica
+// read in that window could pair the new tag with old data, which clients would then keep.
+// Codes never change once reserved, so code -> id lookups are cached (bounded, with a TTL); unknown codes
+// are not. Metrics: cache.gets{cache=teamCodes|clubCodes}
+@Component
+public class ResourceVersions {
+    
+    private final TeamRepository teamRepository;
+    private final ClubRepository clubRepository;
+    private final Duration replicaLagWindow;
+    
+    private final AtomicLong clock = new AtomicLong();
+    private volatile String epoch = newEpoch();
+    // Only aggregates written since startup have an entry (at most one per team/club); the rest are at version 0
+    private final ConcurrentHashMap<String, Long> versions = new ConcurrentHashMap<>();
+    // key -> System.nanoTime() of the last bump, same keys as versions
+    private final ConcurrentHashMap<String, Long> changedAt = new ConcurrentHashMap<>();
+    private volatile long resetAt = System.nanoTime();
+    
+    private final Cache<String, Long> teamIdsByCode;
+    private final Cache<String, Long> clubIdsByCode;
+    
+    public ResourceVersions(TeamRepository teamRepository,
+                            ClubRepository clubRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.readYourWritesWindow}") Duration replicaLagWindow,
+                            @Value("${app.teamCodeCacheMaxSize}") long teamCodeMaxSize,
+                            @Value("${app.teamCodeCacheTtl}") Duration teamCodeTtl,
+                            @Value("${app.clubCodeCacheMaxSize}") long clubCodeMaxSize,
+                            @Value("${app.clubCodeCacheTtl}") Duration clubCodeTtl) {
+        this.teamRepository = teamRepository;
+        this.clubRepository = clubRepository;
+        this.replicaLagWindow = replicaLagWindow;
+        this.teamIdsByCode = Caffeine.newBuilder()
+            .maximumSize(teamCodeMaxSize)
+            .expireAfterWrite(teamCodeTtl)
+            .recordStats()
+            .build();
+        this.clubIdsByCode = Caffeine.newBuilder()
+            .maximumSize(clubCodeMaxSize)
+            .expireAfterWrite(clubCodeTtl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, teamIdsByCode, "teamCodes");
+        CaffeineCacheMetrics.monitor(meterRegistry, clubIdsByCode, "clubCodes");
+    }
+    
+    public String teamTag(Long teamId) {
+        return tag("team:" + teamId);
+    }
+    
+    public String clubTag(Long clubId) {
+        return tag("club:" + clubId);
+    }
+    
+    // True within app.readYourWritesWindow of the last write (or of startup/reset, which may follow writes)
+    public boolean teamChangedRecently(Long teamId) {
+        return changedRecently("team:" + teamId);
+    }
+    
+    public boolean clubChangedRecently(Long clubId) {
+        return changedRecently("club:" + clubId);
+    }
+    
+    // null when no team has the code (misses are not cached)
+    public Long teamIdByCode(String teamCode) {
+        Long teamId = teamIdsByCode.getIfPresent(teamCode);
+        // Queried outside the cache's compute lock; two racing lookups of one code both store the same id
+        if (teamId == null) {
+            teamId = teamRepository.findIdByTeamCode(teamCode);
+            if (teamId != null) {
+                teamIdsByCode.put(teamCode, teamId);
+            }
+        }
+        return teamId;
+    }
+    
+    public Long clubIdByCode(String clubCode) {
+        Long clubId = clubIdsByCode.getIfPresent(clubCode);
+        if (clubId == null) {
+            clubId = clubRepository.findIdByClubCode(clubCode);
+            if (clubId != null) {
+                clubIdsByCode.put(clubCode, clubId);
+            }
+        }
+        return clubId;
+    }
+    
+    // Already-resolved ids only, without a query; null when the code has not been looked up yet (or is unknown)
+    public Long cachedTeamIdByCode(String teamCode) {
+        return teamIdsByCode.getIfPresent(teamCode);
+    }
+    
+    public Long cachedClubIdByCode(String clubCode) {
+        return clubIdsByCode.getIfPresent(clubCode);
+    }
+    
+    // Player rows show up in the team's roster and details; the club's team listing carries player counts
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        bump("team:" + event.getTeamId());
+        if (event.getType() != PlayerChangedEvent.Type.UPDATED && event.getClubId() != null) {
+            bump("club:" + event.getClubId());
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        bump("club:" + event.getClubId());
+    }
+    
+    // Member counts appear in the club details and, for teams, in the club's team listing
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        if (event.getClubId() != null) {
+            bump("club:" + event.getClubId());
+        }
+    }
+    
+    // Reconciliation does not say which clubs it touched, so every tag is invalidated
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountersReconciled(ClubCountersReconciledEvent event) {
+        reset();
+    }
+    
+    // Versions are kept: clearing them could hand a pre-reset stamp back out under the new epoch
+    private void reset() {
+        resetAt = System.nanoTime();
+        epoch = newEpoch();
+    }
+    
+    private void bump(String key) {
+        changedAt.put(key, System.nanoTime());
+        versions.put(key, clock.incrementAndGet());
+    }
+    
+    private boolean changedRecently(String key) {
+        long now = System.nanoTime();
+        long window = replicaLagWindow.toNanos();
+        Long changed = changedAt.get(key);
+        return now - resetAt < window || (changed != null && now - changed < window);
+    }
+    
+    private String tag(String key) {
+        return "\"" + epoch + "." + versions.getOrDefault(key, 0L) + "\"";
+    }
+    
+    private static String newEpoch() {
+        return Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    }
+}
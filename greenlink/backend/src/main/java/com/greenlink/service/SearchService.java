@@ -0,0 +1,153 @@
+package com.greenlink.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.greenlink.dto.ClubSummary;
+import com.greenlink.dto.SearchHit;
+import com.greenlink.event.ClubChangedEvent;
+import com.greenlink.repository.ClubRepository;
+import com.greenlink.repository.PlayerRepository;
+import com.greenlink.repository.TeamRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Name search for clubs, teams and players, plus club-name autocomplete for "join a club".
+// Search is a substring match served by the pg_trgm indexes and ranked by similarity. Autocomplete
+// never touches the database: club names (and each later word of a name) sit in a sorted in-memory
+// index, loaded once at startup and extended after each club is created; a prefix is one range scan.
+// Metrics: search.autocomplete.entries
+@Service
+public class SearchService {
+    
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+    
+    // Shorter needles have no trigram to look up, so the index cannot narrow them down
+    public static final int MIN_QUERY_LENGTH = 3;
+    
+    // Separates the normalised name from the id, so clubs with the same name get their own keys
+    private static final char KEY_SEPARATOR = '\u0000';
+    
+    private final ClubRepository clubRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    
+    // "<normalised name or name suffix>\0<id>" -> club, kept in key order
+    private final ConcurrentSkipListMap<String, ClubSuggestion> clubNames = new ConcurrentSkipListMap<>();
+    
+    public SearchService(ClubRepository clubRepository,
+                         TeamRepository teamRepository,
+                         PlayerRepository playerRepository,
+                         MeterRegistry meterRegistry) {
+        this.clubRepository = clubRepository;
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        meterRegistry.gaugeMapSize("search.autocomplete.entries", List.of(), clubNames);
+    }
+    
+    public List<SearchHit> searchClubs(String query, int limit) {
+        return clubRepository.search(query, containsPattern(query), PageRequest.of(0, limit));
+    }
+    
+    public List<SearchHit> searchTeams(String query, Long clubId, int limit) {
+        return teamRepository.search(query, containsPattern(query), clubId, PageRequest.of(0, limit));
+    }
+    
+    public List<SearchHit> searchPlayers(String query, Long teamId, int limit) {
+        return playerRepository.search(query, containsPattern(query), teamId, PageRequest.of(0, limit));
+    }
+    
+    // Clubs whose name, or any word of it, starts with the prefix (case and accent insensitive)
+    public List<ClubSuggestion> autocompleteClubs(String prefix, int limit) {
+        String from = normalise(prefix);
+        if (from.isEmpty()) {
+            return List.of();
+        }
+        ConcurrentNavigableMap<String, ClubSuggestion> range = clubNames.subMap(from, true, from + Character.MAX_VALUE, false);
+        
+        // A club can match on several of its words; keep its first (alphabetically closest) hit
+        Map<Long, ClubSuggestion> suggestions = new LinkedHashMap<>();
+        for (ClubSuggestion suggestion : range.values()) {
+            suggestions.putIfAbsent(suggestion.getId(), suggestion);
+            if (suggestions.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(suggestions.values());
+    }
+    
+    // Full load, streamed from a cursor; clubs created meanwhile are added by onClubChanged either way
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadClubNames() {
+        try (Stream<ClubSummary> clubs = clubRepository.streamAllSummaries()) {
+            clubs.forEach(club -> index(new ClubSuggestion(club.getId(), club.getName(), club.getClubCode(), club.getLocation())));
+        }
+        log.info("Indexed {} club name entries for autocomplete", clubNames.size());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClubChanged(ClubChangedEvent event) {
+        index(new ClubSuggestion(event.getClubId(), event.getName(), event.getClubCode(), event.getLocation()));
+    }
+    
+    private void index(ClubSuggestion club) {
+        String name = normalise(club.getName());
+        String suffix = KEY_SEPARATOR + club.getId().toString();
+        for (int start = 0; start < name.length(); start++) {
+            if (start == 0 || (name.charAt(start - 1) == ' ' && name.charAt(start) != ' ')) {
+                clubNames.put(name.substring(start) + suffix, club);
+            }
+        }
+    }
+    
+    // Lower case, accents stripped, whitespace collapsed
+    private static String normalise(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+    
+    // '%q%' with LIKE wildcards in q escaped (the queries declare ESCAPE '\')
+    private static String containsPattern(String query) {
+        return "%" + query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+    
+    // Autocomplete entry: what the join screen needs to show and join by
+    public static class ClubSuggestion {
+        private final Long id;
+        private final String name;
+        private final String clubCode;
+        private final String location;
+        
+        public ClubSuggestion(Long id, String name, String clubCode, String location) {
+            this.id = id;
+            this.name = name;
+            this.clubCode = clubCode;
+            this.location = location;
+        }
+        
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public String getClubCode() { return clubCode; }
+        public String getLocation() { return location; }
+    }
+}
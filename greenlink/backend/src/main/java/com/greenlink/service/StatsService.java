@@ -0,0 +1,92 @@
+package com.greenlink.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.greenlink.dto.StatTotals;
+import com.greenlink.event.PlayerChangedEvent;
+import com.greenlink.repository.PlayerRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Team/club stat aggregates computed with grouped queries and cached until a player of that
+// team/club changes. Metrics: cache.gets{cache=stats}
+@Service
+public class StatsService {
+    
+    public static final int MAX_RANKED_CLUBS = 100;
+    
+    private final PlayerRepository playerRepository;
+    private final Cache<String, Map<String, Object>> reports;
+    // The cross-club ranking touches every player, so it is refreshed on a timer instead of on every change
+    private final Cache<String, List<StatTotals>> rankings;
+    
+    public StatsService(PlayerRepository playerRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.statsCacheMaxSize}") long maxSize,
+                        @Value("${app.statsCacheTtl}") Duration ttl,
+                        @Value("${app.statsClubRankingTtl}") Duration rankingTtl) {
+        this.playerRepository = playerRepository;
+        this.reports = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.rankings = Caffeine.newBuilder()
+            .maximumSize(1)
+            .expireAfterWrite(rankingTtl)
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, reports, "stats");
+    }
+    
+    // Totals for one team plus a per-position breakdown; null if the team does not exist
+    public Map<String, Object> teamReport(Long teamId) {
+        return reports.get("team:" + teamId, key -> playerRepository.findTeamTotals(teamId)
+            .map(totals -> {
+                Map<String, Object> report = new HashMap<>();
+                report.put("team", totals);
+                report.put("byPosition", playerRepository.findPositionTotalsByTeam(teamId));
+                return report;
+            })
+            .orElse(null));
+    }
+    
+    // Totals for one club plus per-team and per-position breakdowns; null if the club does not exist
+    public Map<String, Object> clubReport(Long clubId) {
+        return reports.get("club:" + clubId, key -> playerRepository.findClubTotals(clubId)
+            .map(totals -> {
+                Map<String, Object> report = new HashMap<>();
+                report.put("club", totals);
+                report.put("byTeam", playerRepository.findTeamTotalsByClub(clubId));
+                report.put("byPosition", playerRepository.findPositionTotalsByClub(clubId));
+                return report;
+            })
+            .orElse(null));
+    }
+    
+    // Clubs ranked by total goals (at most MAX_RANKED_CLUBS)
+    public List<StatTotals> clubRanking(int limit) {
+        List<StatTotals> ranking = rankings.get("clubs", key ->
+            playerRepository.findClubTotalsRanked(PageRequest.of(0, MAX_RANKED_CLUBS)));
+        return ranking.size() <= limit ? ranking : ranking.subList(0, limit);
+    }
+    
+    // Invalidating waits for an in-flight load of the same key, so a load that read the old rows is not kept
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        reports.invalidate("team:" + event.getTeamId());
+        if (event.getClubId() != null) {
+            reports.invalidate("club:" + event.getClubId());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.greenlink.service;
+
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.greenlink.dto.CreateTeamRequest;
+import com.greenlink.event.MembershipChangedEvent;
+import com.greenlink.event.PlayerEventPublisher;
+import com.greenlink.event.TeamChangedEvent;
+import com.greenlink.model.Club;
+import com.greenlink.model.Team;
+import com.greenlink.model.TeamMember;
+import com.greenlink.model.User;
+import com.greenlink.repository.ClubRepository;
+import com.greenlink.repository.TeamMemberRepository;
+import com.greenlink.repository.TeamRepository;
+import com.greenlink.repository.UserRepository;
+
+// Team use cases: creating teams and team membership. Responses are built inside the transaction from
+// what the use case loaded, so nothing lazy reaches serialisation. (Reads live in ClubDirectoryService.)
+@Service
+public class TeamService {
+    
+    private final TeamRepository teamRepository;
+    private final ClubRepository clubRepository;
+    private final UserRepository userRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final ClubCounterService clubCounterService;
+    private final CodeGenerator codeGenerator;
+    private final MembershipIndex membershipIndex;
+    private final ResourceVersions resourceVersions;
+    private final PlayerEventPublisher playerEvents;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public TeamService(TeamRepository teamRepository,
+                       ClubRepository clubRepository,
+                       UserRepository userRepository,
+                       TeamMemberRepository teamMemberRepository,
+                       ClubCounterService clubCounterService,
+                       CodeGenerator codeGenerator,
+                       MembershipIndex membershipIndex,
+                       ResourceVersions resourceVersions,
+                       PlayerEventPublisher playerEvents,
+                       ApplicationEventPublisher eventPublisher) {
+        this.teamRepository = teamRepository;
+        this.clubRepository = clubRepository;
+        this.userRepository = userRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.clubCounterService = clubCounterService;
+        this.codeGenerator = codeGenerator;
+        this.membershipIndex = membershipIndex;
+        this.resourceVersions = resourceVersions;
+        this.playerEvents = playerEvents;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    // No outer transaction: every code attempt commits in its own (see CodeGenerator), and an outer one
+    // would hold a second connection across them. The club and manager are loaded first, in full, since
+    // the response needs their names.
+    public Map<String, Object> create(CreateTeamRequest request) {
+        Club club = clubRepository.findById(request.getClubId())
+            .orElseThrow(() -> new InvalidRequestException("Club not found"));
+        User manager = userRepository.findById(request.getManagerId())
+            .orElseThrow(() -> new InvalidRequestException("Manager not found"));
+        
+        // Reserve a unique team code on insert (the counter update commits with it)
+        Team savedTeam = codeGenerator.reserve(CodeGenerator.TEAM_WORDS, teamCode -> {
+            Team team = new Team();
+            team.setName(request.getName());
+            team.setTeamCode(teamCode);
+            team.setAgeGroup(request.getAgeGroup());
+            team.setDescription(request.getDescription());
+            team.setClub(club);
+            team.setManager(manager);
+            
+            Team saved = teamRepository.save(team);
+            clubCounterService.teamAdded(club.getId());
+            return saved;
+        }, teamRepository::existsByTeamCode);
+        eventPublisher.publishEvent(new TeamChangedEvent(TeamChangedEvent.Type.CREATED, savedTeam, club.getId()));
+        
+        return Map.of(
+            "id", savedTeam.getId(),
+            "name", savedTeam.getName(),
+            "teamCode", savedTeam.getTeamCode(),
+            "ageGroup", savedTeam.getAgeGroup() != null ? savedTeam.getAgeGroup() : "",
+            "description", savedTeam.getDescription() != null ? savedTeam.getDescription() : "",
+            "club", Map.of(
+                "id", club.getId(),
+                "name", club.getName()
+            ),
+            "manager", Map.of(
+                "id", manager.getId(),
+                "fullName", manager.getFullName()
+            )
+        );
+    }
+    
+    // Membership rows only need ids, so the team and user are references rather than loads
+    @Transactional
+    public Long join(Long userId, String teamCode) {
+        Long teamId = resourceVersions.teamIdByCode(teamCode);
+        if (teamId == null) {
+            throw new InvalidRequestException("Team not found");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new InvalidRequestException("User not found");
+        }
+        if (membershipIndex.isTeamMember(userId, teamId)) {
+            throw new InvalidRequestException("Already a member of this team");
+        }
+        
+        // A concurrent join of the same user passes the index check too; the unique (team_id, user_id) index catches it
+        try {
+            teamMemberRepository.save(new TeamMember(teamRepository.getReferenceById(teamId),
+                userRepository.getReferenceById(userId)));
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("Already a member of this team");
+        }
+        eventPublisher.publishEvent(MembershipChangedEvent.team(
+            MembershipChangedEvent.Type.JOINED, userId, playerEvents.clubIdOf(teamId), teamId));
+        return teamId;
+    }
+    
+    @Transactional
+    public void leave(Long teamId, Long userId) {
+        TeamMember member = teamMemberRepository.findByTeamIdAndUserId(teamId, userId)
+            .orElseThrow(() -> new InvalidRequestException("Not a member of this team"));
+        
+        teamMemberRepository.delete(member);
+        eventPublisher.publishEvent(MembershipChangedEvent.team(
+            MembershipChangedEvent.Type.LEFT, userId, playerEvents.clubIdOf(teamId), teamId));
+    }
+}
@@ -0,0 +1,76 @@
+-- Baseline: the schema as Hibernate generated it with ddl-auto=update, before the migrations existed.
+-- Databases created that way are baselined at version 1 (spring.flyway.baseline-on-migrate) and skip this
+-- file, so every later change goes in a later version, written to apply to both.
+
+CREATE TABLE users (
+    id bigserial NOT NULL,
+    username varchar(255) NOT NULL,
+    email varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    full_name varchar(255) NOT NULL,
+    role varchar(255) NOT NULL CHECK (role IN ('MANAGER', 'PLAYER')),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    PRIMARY KEY (id),
+    UNIQUE (username),
+    UNIQUE (email)
+);
+
+CREATE TABLE clubs (
+    id bigserial NOT NULL,
+    name varchar(255) NOT NULL,
+    club_code varchar(255) NOT NULL UNIQUE,
+    description varchar(255),
+    location varchar(255),
+    owner_id bigint NOT NULL REFERENCES users,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE teams (
+    id bigserial NOT NULL,
+    name varchar(255) NOT NULL,
+    team_code varchar(255) NOT NULL UNIQUE,
+    age_group varchar(255),
+    description varchar(255),
+    club_id bigint NOT NULL REFERENCES clubs,
+    manager_id bigint NOT NULL REFERENCES users,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE players (
+    id bigserial NOT NULL,
+    name varchar(255) NOT NULL,
+    position varchar(255),
+    jersey_number integer,
+    matches_played integer,
+    goals integer,
+    assists integer,
+    yellow_cards integer,
+    red_cards integer,
+    team_id bigint NOT NULL REFERENCES teams,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE club_members (
+    id bigserial NOT NULL,
+    club_id bigint NOT NULL REFERENCES clubs,
+    user_id bigint NOT NULL REFERENCES users,
+    role varchar(255) NOT NULL CHECK (role IN ('OWNER', 'ADMIN', 'COACH', 'MEMBER')),
+    joined_at timestamp(6),
+    PRIMARY KEY (id),
+    UNIQUE (club_id, user_id)
+);
+
+CREATE TABLE team_members (
+    id bigserial NOT NULL,
+    team_id bigint NOT NULL REFERENCES teams,
+    user_id bigint NOT NULL REFERENCES users,
+    joined_at timestamp(6),
+    PRIMARY KEY (id),
+    UNIQUE (team_id, user_id)
+);
+
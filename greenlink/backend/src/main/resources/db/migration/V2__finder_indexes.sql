@@ -0,0 +1,35 @@
+-- One index per repository finder that the primary keys and unique constraints do not already serve.
+-- "...ContainingIgnoreCase" finders compile to upper(name) LIKE upper('%x%'), which only a trigram
+-- index on the same expression can serve.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- PlayerRepository: findByTeamAndPosition, countByTeamAndPosition
+CREATE INDEX IF NOT EXISTS idx_players_team_position ON players (team_id, position);
+-- PlayerRepository: findByTeamAndJerseyNumber
+CREATE INDEX IF NOT EXISTS idx_players_team_jersey_number ON players (team_id, jersey_number);
+-- PlayerRepository: findByTeamAndNameContainingIgnoreCase (team_id comes from the idx_players_team_* indexes)
+CREATE INDEX IF NOT EXISTS idx_players_name_trgm ON players USING gin (upper(name) gin_trgm_ops);
+
+-- TeamRepository: findByManager
+CREATE INDEX IF NOT EXISTS idx_teams_manager ON teams (manager_id);
+-- TeamRepository: findByClubAndAgeGroup
+CREATE INDEX IF NOT EXISTS idx_teams_club_age_group ON teams (club_id, age_group);
+-- TeamRepository: findByClubAndNameContainingIgnoreCase
+CREATE INDEX IF NOT EXISTS idx_teams_name_trgm ON teams USING gin (upper(name) gin_trgm_ops);
+
+-- ClubRepository: findByOwner
+CREATE INDEX IF NOT EXISTS idx_clubs_owner ON clubs (owner_id);
+-- ClubRepository: findByNameContainingIgnoreCase
+CREATE INDEX IF NOT EXISTS idx_clubs_name_trgm ON clubs USING gin (upper(name) gin_trgm_ops);
+
+-- ClubMemberRepository: findByClubAndRole (findByClub and findByClubAndUser use the (club_id, user_id) unique index)
+CREATE INDEX IF NOT EXISTS idx_club_members_club_role ON club_members (club_id, role);
+-- ClubMemberRepository: findByUser
+CREATE INDEX IF NOT EXISTS idx_club_members_user ON club_members (user_id);
+
+-- Team memberships by user (the (team_id, user_id) unique index covers lookups by team)
+CREATE INDEX IF NOT EXISTS idx_team_members_user ON team_members (user_id);
+
+-- UserRepository: findByRole
+CREATE INDEX IF NOT EXISTS idx_users_role ON users (role);
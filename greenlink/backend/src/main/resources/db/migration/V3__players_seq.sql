@@ -0,0 +1,7 @@
+-- Players take their ids from players_seq (pooled, 50 per round-trip) instead of the players.id identity.
+-- Databases baselined from ddl-auto=update already hold players numbered by the identity, so the sequence
+-- must start past them or the first batch of inserts collides with existing ids.
+
+CREATE SEQUENCE IF NOT EXISTS players_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('players_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM players));
@@ -0,0 +1,36 @@
+-- Schema the entities gained alongside the move to migrations. A database baselined from ddl-auto=update
+-- may already have some of it (if it ran the newer entities), hence IF NOT EXISTS throughout.
+
+-- Club counters, kept by ClubCounterService; filled in here so they are right from the first start
+ALTER TABLE clubs ADD COLUMN IF NOT EXISTS team_count integer DEFAULT 0 NOT NULL;
+ALTER TABLE clubs ADD COLUMN IF NOT EXISTS member_count integer DEFAULT 0 NOT NULL;
+
+UPDATE clubs c SET
+    team_count = (SELECT COUNT(*) FROM teams t WHERE t.club_id = c.id),
+    member_count = (SELECT COUNT(*) FROM club_members m WHERE m.club_id = c.id);
+
+-- Leaderboards: top N of a team by stat
+CREATE INDEX IF NOT EXISTS idx_players_team_goals ON players (team_id, goals);
+CREATE INDEX IF NOT EXISTS idx_players_team_assists ON players (team_id, assists);
+CREATE INDEX IF NOT EXISTS idx_players_team_matches_played ON players (team_id, matches_played);
+-- Club-level lookups and stat aggregation join players -> teams by club
+CREATE INDEX IF NOT EXISTS idx_teams_club ON teams (club_id);
+
+-- Name the users unique constraints (Hibernate generated them as UK<hash>) so signup can tell which
+-- value collided. An already named constraint wins over a generated duplicate.
+DO $$
+DECLARE
+    target record;
+    existing name;
+BEGIN
+    FOR target IN SELECT * FROM (VALUES ('username', 'uk_users_username'), ('email', 'uk_users_email')) AS t (col, constraint_name) LOOP
+        SELECT c.conname INTO existing
+        FROM pg_constraint c JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+        WHERE c.conrelid = 'users'::regclass AND c.contype = 'u' AND cardinality(c.conkey) = 1 AND a.attname = target.col
+        ORDER BY c.conname = target.constraint_name DESC
+        LIMIT 1;
+        IF existing IS NOT NULL AND existing <> target.constraint_name THEN
+            EXECUTE format('ALTER TABLE users RENAME CONSTRAINT %I TO %I', existing, target.constraint_name);
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,72 @@
+package com.greenlink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.greenlink.model.Team;
+import com.greenlink.support.AsyncMockMvc;
+import com.greenlink.support.SqlStatementCounts;
+import com.greenlink.support.TestData;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class GreenlinkApplicationTest {
+    
+    private static final String ROSTER = "/api/players/team/{teamId}";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private TestData data;
+    
+    // The roster is one projection query: nothing lazy (team, club, owner) is loaded to serialise it
+    @Test
+    void rosterRunsOneStatement() throws Exception {
+        Team team = data.team();
+        data.players(team, 26);
+        
+        long statements = SqlStatementCounts.statementsOf(meterRegistry, "GET", ROSTER, () ->
+            AsyncMockMvc.perform(mockMvc, get(ROSTER, team.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(26))
+                .andExpect(jsonPath("$[0].teamId").value(team.getId())));
+        
+        assertEquals(1, statements);
+    }
+    
+    // An empty roster also checks that the team exists
+    @Test
+    void emptyRosterRunsTwoStatements() throws Exception {
+        Team team = data.team();
+        
+        long statements = SqlStatementCounts.statementsOf(meterRegistry, "GET", ROSTER, () ->
+            AsyncMockMvc.perform(mockMvc, get(ROSTER, team.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0)));
+        
+        assertEquals(2, statements);
+    }
+    
+    @Test
+    void rosterOfUnknownTeamIsRejected() throws Exception {
+        AsyncMockMvc.perform(mockMvc, get(ROSTER, Long.MAX_VALUE))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Team not found"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.greenlink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.greenlink.support.EmbeddedPostgresServer;
+
+// The migrations on real PostgreSQL, for both kinds of database they meet: a new one (runs everything) and
+// one created by the old ddl-auto=update (baselined at V1, runs the rest on top of existing data).
+class SchemaMigrationTest {
+    
+    private static final String LATEST_VERSION = "4";
+    
+    @Test
+    void newDatabaseGetsTheFullSchema() {
+        DataSource dataSource = EmbeddedPostgresServer.createDatabase("migration_new");
+        
+        migrate(dataSource);
+        
+        assertSeriesSchema(new JdbcTemplate(dataSource));
+    }
+    
+    @Test
+    void preMigrationDatabaseIsBaselinedAndUpgraded() throws IOException {
+        DataSource dataSource = EmbeddedPostgresServer.createDatabase("migration_legacy");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        // What ddl-auto=update left behind: the V1 tables, Hibernate's generated constraint names, no history
+        jdbc.execute(new ClassPathResource("db/migration/V1__baseline.sql").getContentAsString(StandardCharsets.UTF_8));
+        jdbc.execute("ALTER TABLE users RENAME CONSTRAINT users_username_key TO ukr43af9ap4edm43mmtq01oddj6");
+        jdbc.execute("ALTER TABLE users RENAME CONSTRAINT users_email_key TO uk6dotkott2kjsp8vw4d0m25fb7");
+        jdbc.update("INSERT INTO users (username, email, password, full_name, role) VALUES " +
+            "('owner', 'owner@example.com', 'x', 'Owner', 'MANAGER'), ('member', 'member@example.com', 'x', 'Member', 'PLAYER')");
+        jdbc.update("INSERT INTO clubs (name, club_code, owner_id) VALUES ('Legacy FC', 'LEGACY-1', 1), ('Empty FC', 'EMPTY-1', 1)");
+        jdbc.update("INSERT INTO teams (name, team_code, club_id, manager_id) VALUES ('Firsts', 'FIRSTS-1', 1, 1), ('Seconds', 'SECONDS-1', 1, 1)");
+        jdbc.update("INSERT INTO club_members (club_id, user_id, role) VALUES (1, 1, 'OWNER'), (1, 2, 'MEMBER')");
+        for (int i = 0; i < 75; i++) {
+            jdbc.update("INSERT INTO players (name, team_id, goals) VALUES (?, 1, NULL)", "Player " + i);
+        }
+        
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .load()
+            .migrate();
+        
+        assertSeriesSchema(jdbc);
+        assertThat(jdbc.queryForList("SELECT team_count, member_count FROM clubs ORDER BY id"))
+            .extracting(row -> List.of(row.get("team_count"), row.get("member_count")))
+            .containsExactly(List.of(2, 2), List.of(0, 0));
+        // Existing rows keep their values (no NULL turned into 0)
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM players WHERE goals IS NULL", Long.class)).isEqualTo(75);
+        // The pooled generator takes ids up to nextval; all of them must be new
+        Long maxId = jdbc.queryForObject("SELECT MAX(id) FROM players", Long.class);
+        Long next = jdbc.queryForObject("SELECT nextval('players_seq')", Long.class);
+        assertThat(next - 49).isGreaterThan(maxId);
+    }
+    
+    private static void migrate(DataSource dataSource) {
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+    }
+    
+    private static void assertSeriesSchema(JdbcTemplate jdbc) {
+        assertThat(jdbc.queryForObject("SELECT MAX(version) FROM flyway_schema_history WHERE success", String.class))
+            .isEqualTo(LATEST_VERSION);
+        assertThat(jdbc.queryForList("SELECT column_name FROM information_schema.columns WHERE table_name = 'clubs'", String.class))
+            .contains("team_count", "member_count");
+        assertThat(jdbc.queryForList("SELECT indexname FROM pg_indexes WHERE schemaname = 'public'", String.class))
+            .contains("idx_players_team_goals", "idx_players_team_assists", "idx_players_team_matches_played",
+                "idx_teams_club", "idx_players_name_trgm", "idx_club_members_user");
+        assertThat(jdbc.queryForList("SELECT conname FROM pg_constraint WHERE conrelid = 'users'::regclass AND contype = 'u'", String.class))
+            .containsExactlyInAnyOrder("uk_users_username", "uk_users_email");
+        assertThat(jdbc.queryForObject("SELECT increment_by FROM pg_sequences WHERE sequencename = 'players_seq'", Long.class))
+            .isEqualTo(50);
+    }
+}
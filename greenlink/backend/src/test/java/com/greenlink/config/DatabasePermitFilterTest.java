@@ -0,0 +1,51 @@
+package com.greenlink.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DatabasePermitFilterTest {
+    
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    // The read pool's workers keep their own connections; requests share the rest
+    @Test
+    void permitsAreTheConnectionsTheReadPoolLeaves() {
+        new DatabasePermitFilter(meterRegistry, 10, 6, Duration.ofSeconds(2));
+        
+        assertThat(meterRegistry.get("db.permits.available").gauge().value()).isEqualTo(4);
+    }
+    
+    @Test
+    void readPoolMustLeaveAConnection() {
+        assertThatThrownBy(() -> new DatabasePermitFilter(meterRegistry, 6, 6, Duration.ofSeconds(2)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("app.readThreads");
+    }
+    
+    @Test
+    void requestWithoutAPermitGets503() throws Exception {
+        DatabasePermitFilter filter = new DatabasePermitFilter(meterRegistry, 7, 6, Duration.ofMillis(10));
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        
+        // The second request arrives while the first holds the only permit
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/teams/1"), first,
+            (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/teams/2"), second, new MockFilterChain()));
+        
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(503);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("db.permits.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.permits.available").gauge().value()).isEqualTo(1);
+    }
+}
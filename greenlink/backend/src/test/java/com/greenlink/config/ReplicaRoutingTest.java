@@ -0,0 +1,118 @@
+package com.greenlink.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.greenlink.model.Team;
+import com.greenlink.model.User;
+import com.greenlink.repository.UserRepository;
+import com.greenlink.support.AsyncMockMvc;
+import com.greenlink.support.EmbeddedPostgresServer;
+import com.greenlink.support.TestData;
+
+// Primary and replica as two local databases with the same schema but no replication between them, so a
+// read shows where it went: a team written to the primary is "not found" when read from the replica.
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "app.matchEventLogDir=target/replica-routing-match-events",
+    "logging.level.com.greenlink=INFO"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+    
+    private static final String PRIMARY = "routing_primary";
+    private static final String REPLICA = "routing_replica";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private TestData data;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Value("${app.readYourWritesWindow}")
+    private Duration readYourWritesWindow;
+    
+    private static Long teamId;
+    
+    @DynamicPropertySource
+    static void databases(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresServer.createDatabase(PRIMARY);
+        Flyway.configure().dataSource(EmbeddedPostgresServer.createDatabase(REPLICA)).locations("classpath:db/migration").load().migrate();
+        registry.add("spring.datasource.url", () -> EmbeddedPostgresServer.jdbcUrl(PRIMARY));
+        registry.add("spring.datasource.username", () -> EmbeddedPostgresServer.USER);
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("app.replicaUrl", () -> EmbeddedPostgresServer.jdbcUrl(REPLICA));
+    }
+    
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        if (teamId == null) {
+            Team team = data.team();
+            data.player(team, "Primary Only");
+            teamId = team.getId();
+            // Every read goes to the primary for one window after startup (writes may have just happened)
+            Thread.sleep(readYourWritesWindow.toMillis());
+        }
+    }
+    
+    @Test
+    void readsGoToTheReplica() throws Exception {
+        roster("10.0.0.1").andExpect(status().isBadRequest()).andExpect(jsonPath("$.error").value("Team not found"));
+    }
+    
+    @Test
+    void successfulWriteKeepsTheClientOnThePrimary() throws Exception {
+        signup("10.0.0.2", "fresh").andExpect(status().isOk());
+        
+        roster("10.0.0.2").andExpect(status().isOk()).andExpect(jsonPath("$[0].name").value("Primary Only"));
+        roster("10.0.0.3").andExpect(status().isBadRequest());
+    }
+    
+    // The duplicate is only found by the INSERT on the async leg, after the first pass ended with a default 200
+    @Test
+    void failedAsyncWriteDoesNotPinTheClient() throws Exception {
+        userRepository.save(new User("taken", "taken@example.com", "x", "Taken", User.Role.PLAYER));
+        
+        signup("10.0.0.4", "taken").andExpect(status().isBadRequest());
+        
+        roster("10.0.0.4").andExpect(status().isBadRequest()).andExpect(jsonPath("$.error").value("Team not found"));
+    }
+    
+    private ResultActions roster(String client) throws Exception {
+        return AsyncMockMvc.perform(mockMvc, from(client, get("/api/players/team/{teamId}", teamId)));
+    }
+    
+    private ResultActions signup(String client, String username) throws Exception {
+        return AsyncMockMvc.perform(mockMvc, from(client, post("/api/auth/signup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"username\":\"" + username + "\",\"email\":\"" + username + "@example.com\",\"password\":\"pw\",\"fullName\":\"Client\"}")));
+    }
+    
+    private static MockHttpServletRequestBuilder from(String client, MockHttpServletRequestBuilder request) {
+        return request.with(mockRequest -> {
+            mockRequest.setRemoteAddr(client);
+            return mockRequest;
+        });
+    }
+}
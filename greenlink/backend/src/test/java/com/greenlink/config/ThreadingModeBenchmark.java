@@ -0,0 +1,160 @@
+package com.greenlink.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import com.greenlink.GreenlinkApplication;
+import com.greenlink.model.Club;
+import com.greenlink.model.Team;
+import com.greenlink.support.Latencies;
+import com.greenlink.support.TestData;
+
+// CLIENTS concurrent clients (closed loop) read team rosters (GET /api/players/team/{id}) from the app in
+// each threading mode and the throughput and p99 of both are compared at the end. The roster query runs
+// on ReadPool as an async request, so in both modes app.readThreads bounds the database work; the modes
+// differ in how requests get in. Platform threads: Tomcat's 200 workers, freed once a request goes async.
+// Virtual threads: a thread per request, gated by DatabasePermitFilter until it goes async (503 after
+// app.dbPermitTimeout). The virtual run needs a Java 21+ JVM and is skipped on older ones.
+// Run with: mvn test -Pbenchmarks -Dtest=ThreadingModeBenchmark
+class ThreadingModeBenchmark {
+    
+    private static final int CLIENTS = 2_000;
+    private static final int TEAMS = 50;
+    private static final int PLAYERS_PER_TEAM = 26;
+    private static final Duration RUN = Duration.ofSeconds(15);
+    // Loose bounds for either mode (one core with H2 gives ~80 req/s). The loop is closed, so latency is about
+    // CLIENTS / throughput: a mode that serialises requests or sheds most of them fails both.
+    private static final double MIN_THROUGHPUT = 40;
+    private static final double MAX_P99_MILLIS = 50_000;
+    
+    private static final Map<String, Result> RESULTS = new TreeMap<>();
+    
+    @Test
+    void platformThreads() throws Exception {
+        check(run(false));
+    }
+    
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreads() throws Exception {
+        check(run(true));
+    }
+    
+    @AfterAll
+    static void compare() {
+        RESULTS.forEach((mode, result) -> System.out.printf("%-8s threads, %d clients: %.0f req/s, p99 %.1f ms (%s)%n",
+            mode, CLIENTS, result.throughput(), result.latencies.percentileMillis(99), result));
+    }
+    
+    private static void check(Result result) {
+        assertThat(result.errors).hasValue(0);
+        assertThat(result.statuses.keySet()).isSubsetOf(200, 503);
+        assertThat(result.statuses).containsKey(200);
+        assertThat(result.throughput()).isGreaterThan(MIN_THROUGHPUT);
+        assertThat(result.latencies.percentileMillis(99)).isLessThan(MAX_P99_MILLIS);
+    }
+    
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(GreenlinkApplication.class)
+                .profiles("test")
+                .properties(
+                    "server.port=0",
+                    "spring.threads.virtual.enabled=" + virtualThreads,
+                    "spring.datasource.url=jdbc:h2:mem:threading-" + mode + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                    "app.matchEventLogDir=target/threading-" + mode + "-match-events")
+                .run()) {
+            assertThat(context.getBeanNamesForType(DatabasePermitFilter.class)).hasSize(virtualThreads ? 1 : 0);
+            List<Long> teamIds = seed(context);
+            Result result = load(context.getWebServer().getPort(), teamIds);
+            RESULTS.put(mode, result);
+            return result;
+        }
+    }
+    
+    private static List<Long> seed(ServletWebServerApplicationContext context) {
+        TestData data = context.getBean(TestData.class);
+        Club club = data.club();
+        List<Long> teamIds = new ArrayList<>();
+        for (int t = 0; t < TEAMS; t++) {
+            Team team = data.team(club);
+            data.players(team, PLAYERS_PER_TEAM);
+            teamIds.add(team.getId());
+        }
+        return teamIds;
+    }
+    
+    private static Result load(int port, List<Long> teamIds) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+        Result result = new Result();
+        long started = System.nanoTime();
+        long ends = started + RUN.toNanos();
+        List<CompletableFuture<Void>> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            URI uri = URI.create("http://localhost:" + port + "/api/players/team/" + teamIds.get(i % teamIds.size()));
+            clients.add(loop(client, uri, ends, result));
+        }
+        CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).get(RUN.toSeconds() + 120, TimeUnit.SECONDS);
+        result.seconds = (System.nanoTime() - started) / 1e9;
+        return result;
+    }
+    
+    // One client: the next request goes out when the previous answer arrives, until the run ends
+    private static CompletableFuture<Void> loop(HttpClient client, URI uri, long ends, Result result) {
+        if (System.nanoTime() >= ends) {
+            return CompletableFuture.completedFuture(null);
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .timeout(Duration.ofSeconds(60))
+            .GET()
+            .build();
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .handle((response, failure) -> {
+                result.latencies.record(System.nanoTime() - start);
+                if (failure != null) {
+                    result.errors.incrementAndGet();
+                } else {
+                    result.statuses.computeIfAbsent(response.statusCode(), key -> new AtomicInteger()).incrementAndGet();
+                }
+                return null;
+            })
+            .thenCompose(ignored -> loop(client, uri, ends, result));
+    }
+    
+    private static class Result {
+        final Latencies latencies = new Latencies();
+        final Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+        final AtomicInteger errors = new AtomicInteger();
+        double seconds;
+        
+        double throughput() {
+            return latencies.count() / seconds;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%s, statuses=%s, errors=%d", latencies, statuses, errors.get());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.greenlink.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.greenlink.support.AsyncMockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Test
+    void signupCompletesOffTheHashingPoolAndMapsDuplicates() throws Exception {
+        signup("""
+            {"username":"casey","email":"casey@example.com","password":"pw","fullName":"Casey"}""")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.username").value("casey"))
+            .andExpect(jsonPath("$.password").doesNotExist());
+        
+        // Same email, new username: the Bloom filter pre-check catches it before any hashing
+        signup("""
+            {"username":"casey2","email":"casey@example.com","password":"pw","fullName":"Casey"}""")
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Email already exists"));
+    }
+    
+    @Test
+    void loginReturnsATokenForValidCredentials() throws Exception {
+        signup("""
+            {"username":"robin","email":"robin@example.com","password":"pw","fullName":"Robin"}""")
+            .andExpect(status().isOk());
+        
+        send(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"username":"robin","password":"pw"}"""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tokenType").value("Bearer"));
+        send(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"username":"robin","password":"wrong"}"""))
+            .andExpect(status().isBadRequest());
+    }
+    
+    private ResultActions signup(String json) throws Exception {
+        return send(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(json));
+    }
+    
+    private ResultActions send(RequestBuilder request) throws Exception {
+        return AsyncMockMvc.perform(mockMvc, request);
+    }
+}
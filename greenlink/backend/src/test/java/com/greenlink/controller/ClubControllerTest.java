@@ -0,0 +1,61 @@
+package com.greenlink.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.greenlink.model.Club;
+import com.greenlink.support.TestData;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ClubControllerTest {
+    
+    private static final String CLUB_BY_CODE = "/api/clubs/code/{clubCode}";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private TestData data;
+    
+    // The first lookup of a code queries, so it leaves the servlet thread; once resolved, a 304 is answered in place
+    @Test
+    void unresolvedClubCodeIsLookedUpOnTheReadPool() throws Exception {
+        Club club = data.club();
+        
+        MvcResult first = mockMvc.perform(get(CLUB_BY_CODE, club.getClubCode()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String tag = mockMvc.perform(asyncDispatch(first))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(club.getId()))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        mockMvc.perform(get(CLUB_BY_CODE, club.getClubCode()).header(HttpHeaders.IF_NONE_MATCH, tag))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isNotModified());
+    }
+    
+    @Test
+    void unknownClubCodeIsLookedUpOnTheReadPool() throws Exception {
+        MvcResult result = mockMvc.perform(get(CLUB_BY_CODE, "NO-SUCH-CLUB"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Club not found"));
+    }
+}
@@ -0,0 +1,69 @@
+package com.greenlink.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.greenlink.model.Team;
+import com.greenlink.support.AsyncMockMvc;
+import com.greenlink.support.TestData;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LeaderboardControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private TestData data;
+    
+    @Test
+    void boardsListRankedPlayers() throws Exception {
+        Team team = teamWithPlayers(2);
+        
+        AsyncMockMvc.perform(mockMvc, get("/api/leaderboards/team/{teamId}", team.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2));
+        AsyncMockMvc.perform(mockMvc, get("/api/leaderboards/club/{clubId}", team.getClub().getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2));
+    }
+    
+    // An empty board of an existing team or club is a 200, not a "not found"
+    @Test
+    void emptyBoardsOfExistingTargetsAreOk() throws Exception {
+        Team team = teamWithPlayers(0);
+        
+        AsyncMockMvc.perform(mockMvc, get("/api/leaderboards/team/{teamId}", team.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+        AsyncMockMvc.perform(mockMvc, get("/api/leaderboards/club/{clubId}", team.getClub().getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+    }
+    
+    @Test
+    void unknownTargetsAreBadRequests() throws Exception {
+        AsyncMockMvc.perform(mockMvc, get("/api/leaderboards/team/{teamId}", Long.MAX_VALUE))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Team not found"));
+        AsyncMockMvc.perform(mockMvc, get("/api/leaderboards/club/{clubId}", Long.MAX_VALUE))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Club not found"));
+    }
+    
+    private Team teamWithPlayers(int players) {
+        Team team = data.team();
+        data.players(team, players);
+        return team;
+    }
+}
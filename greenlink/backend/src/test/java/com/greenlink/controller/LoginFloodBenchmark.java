@@ -0,0 +1,109 @@
+package com.greenlink.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.greenlink.support.Latencies;
+
+// Login flood: FLOOD_CLIENTS clients log in back to back (every login is a BCrypt verify) while a probe
+// client times a request that needs no hashing. With BCrypt on its own bounded pool the probe keeps being
+// served from free servlet threads and excess logins get a fast 503 instead of queueing.
+// Run with: mvn test -Pbenchmarks -Dtest=LoginFloodBenchmark
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class LoginFloodBenchmark {
+    
+    private static final int FLOOD_CLIENTS = 64;
+    private static final Duration BASELINE = Duration.ofSeconds(3);
+    private static final Duration FLOOD = Duration.ofSeconds(10);
+    private static final Duration PROBE_INTERVAL = Duration.ofMillis(10);
+    
+    @LocalServerPort
+    private int port;
+    
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    
+    @Test
+    void probeLatencyStaysLowDuringLoginFlood() throws Exception {
+        assertThat(post("/api/auth/signup", """
+            {"username":"flood","email":"flood@example.com","password":"secret","fullName":"Flood Test"}""").statusCode())
+            .isEqualTo(200);
+        
+        Latencies baseline = probe(BASELINE);
+        
+        Map<Integer, AtomicInteger> loginStatuses = new ConcurrentHashMap<>();
+        AtomicInteger loginErrors = new AtomicInteger();
+        Latencies logins = new Latencies();
+        long floodEnds = System.nanoTime() + FLOOD.toNanos();
+        ExecutorService flood = Executors.newFixedThreadPool(FLOOD_CLIENTS);
+        for (int i = 0; i < FLOOD_CLIENTS; i++) {
+            flood.execute(() -> {
+                while (System.nanoTime() < floodEnds) {
+                    long start = System.nanoTime();
+                    try {
+                        int status = post("/api/auth/login", """
+                            {"username":"flood","password":"secret"}""").statusCode();
+                        logins.record(System.nanoTime() - start);
+                        loginStatuses.computeIfAbsent(status, key -> new AtomicInteger()).incrementAndGet();
+                    } catch (Exception e) {
+                        loginErrors.incrementAndGet();
+                    }
+                }
+            });
+        }
+        Latencies underFlood = probe(FLOOD);
+        flood.shutdown();
+        assertThat(flood.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        
+        System.out.printf("probe baseline:    %s%n", baseline);
+        System.out.printf("probe under flood: %s%n", underFlood);
+        System.out.printf("logins:            %s statuses=%s errors=%d%n", logins, loginStatuses, loginErrors.get());
+        
+        assertThat(loginErrors).hasValue(0);
+        assertThat(loginStatuses.keySet()).isSubsetOf(200, 503);
+        assertThat(loginStatuses).containsKey(200);
+        assertThat(underFlood.percentileMillis(99)).isLessThan(1_000);
+    }
+    
+    // Times GET /api/memberships/user/{id} (served from memory) at a steady rate for the given duration
+    private Latencies probe(Duration duration) throws Exception {
+        Latencies latencies = new Latencies();
+        long ends = System.nanoTime() + duration.toNanos();
+        while (System.nanoTime() < ends) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/api/memberships/user/1")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            latencies.record(System.nanoTime() - start);
+            assertThat(response.statusCode()).isEqualTo(200);
+            Thread.sleep(PROBE_INTERVAL.toMillis());
+        }
+        return latencies;
+    }
+    
+    private HttpResponse<String> post(String path, String json) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build(), HttpResponse.BodyHandlers.ofString());
+    }
+    
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
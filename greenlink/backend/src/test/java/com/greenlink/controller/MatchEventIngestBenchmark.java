@@ -0,0 +1,112 @@
+package com.greenlink.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.greenlink.model.Player;
+import com.greenlink.repository.PlayerRepository;
+import com.greenlink.service.MatchEventService;
+import com.greenlink.support.Latencies;
+import com.greenlink.support.TestData;
+
+// Live match ingest: CLIENTS clients post batches of goal events back to back. Each request is a log append
+// and an fsync; the players table only sees the coalesced flush. Reports request latency and events/s, then
+// checks that every accepted goal reached the players table exactly once.
+// Run with: mvn test -Pbenchmarks -Dtest=MatchEventIngestBenchmark
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class MatchEventIngestBenchmark {
+    
+    private static final int CLIENTS = 32;
+    private static final int PLAYERS = 22;
+    private static final int EVENTS_PER_REQUEST = 5;
+    private static final Duration RUN = Duration.ofSeconds(10);
+    
+    @LocalServerPort
+    private int port;
+    
+    @Autowired
+    private TestData data;
+    
+    @Autowired
+    private PlayerRepository playerRepository;
+    
+    @Autowired
+    private MatchEventService matchEventService;
+    
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    
+    @Test
+    void everyAcceptedEventIsAppliedOnce() throws Exception {
+        List<Long> playerIds = data.players(data.team(), PLAYERS).stream().map(Player::getId).toList();
+        
+        Latencies requests = new Latencies();
+        AtomicLong acceptedGoals = new AtomicLong();
+        AtomicInteger failures = new AtomicInteger();
+        long started = System.nanoTime();
+        long ends = started + RUN.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < ends) {
+                    StringJoiner events = new StringJoiner(",", "[", "]");
+                    for (int e = 0; e < EVENTS_PER_REQUEST; e++) {
+                        Long playerId = playerIds.get(ThreadLocalRandom.current().nextInt(PLAYERS));
+                        events.add("{\"playerId\":" + playerId + ",\"type\":\"GOAL\"}");
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<String> response = post("/api/matches/events", events.toString());
+                        requests.record(System.nanoTime() - start);
+                        if (response.statusCode() == 202) {
+                            acceptedGoals.addAndGet(EVENTS_PER_REQUEST);
+                        } else {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        assertThat(clients.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        matchEventService.flush();
+        
+        long appliedGoals = playerRepository.findAllById(playerIds).stream().mapToLong(Player::getGoals).sum();
+        System.out.printf("requests: %s failures=%d%n", requests, failures.get());
+        System.out.printf("events:   %.0f/s accepted=%d applied=%d%n", acceptedGoals.get() / seconds,
+            acceptedGoals.get(), appliedGoals);
+        
+        assertThat(failures).hasValue(0);
+        assertThat(appliedGoals).isEqualTo(acceptedGoals.get());
+        assertThat(requests.percentileMillis(99)).isLessThan(2_000);
+    }
+    
+    private HttpResponse<String> post(String path, String json) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,89 @@
+package com.greenlink.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.greenlink.model.Club;
+import com.greenlink.model.ClubMember;
+import com.greenlink.model.Team;
+import com.greenlink.model.TeamMember;
+import com.greenlink.model.User;
+import com.greenlink.repository.ClubMemberRepository;
+import com.greenlink.repository.TeamMemberRepository;
+import com.greenlink.service.MembershipIndex;
+import com.greenlink.support.TestData;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MembershipControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private MembershipIndex membershipIndex;
+    
+    @Autowired
+    private TestData data;
+    
+    @Autowired
+    private ClubMemberRepository clubMemberRepository;
+    
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+    
+    private User user;
+    private Club club;
+    private Team team;
+    
+    // Joins are checked against the in-memory index, which only answers on its own once warm
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        for (int i = 0; i < 100 && !membershipIndex.isReady(); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(membershipIndex.isReady()).isTrue();
+        
+        user = data.user(User.Role.PLAYER);
+        team = data.team();
+        club = team.getClub();
+    }
+    
+    // A membership the index has not seen yet (like the first of two racing joins) is caught by the unique index
+    @Test
+    void joiningAClubTwiceIsABadRequest() throws Exception {
+        clubMemberRepository.save(new ClubMember(club, user, ClubMember.Role.MEMBER));
+        
+        join("club", club.getClubCode())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Already a member of this club"));
+    }
+    
+    @Test
+    void joiningATeamTwiceIsABadRequest() throws Exception {
+        teamMemberRepository.save(new TeamMember(team, user));
+        
+        join("team", team.getTeamCode())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Already a member of this team"));
+    }
+    
+    private ResultActions join(String target, String code) throws Exception {
+        return mockMvc.perform(post("/api/memberships/" + target)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"userId\":" + user.getId() + ",\"code\":\"" + code + "\"}"));
+    }
+}
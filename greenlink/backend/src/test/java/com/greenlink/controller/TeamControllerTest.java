@@ -0,0 +1,100 @@
+package com.greenlink.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.greenlink.model.Club;
+import com.greenlink.support.AsyncMockMvc;
+import com.greenlink.support.SqlStatementCounts;
+import com.greenlink.support.TestData;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TeamControllerTest {
+    
+    private static final String TEAMS_BY_CLUB = "/api/teams/club/{clubId}";
+    private static final String TEAM_BY_CODE = "/api/teams/code/{teamCode}";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private TestData data;
+    
+    // One query for the listing however many teams (and players) the club has
+    @Test
+    void teamsByClubRunsOneStatement() throws Exception {
+        assertEquals(1, teamsByClubStatements(clubWithTeams(1), 1));
+        assertEquals(1, teamsByClubStatements(clubWithTeams(8), 8));
+    }
+    
+    @Test
+    void cachedTeamsByClubRunsNoSql() throws Exception {
+        Long clubId = clubWithTeams(3);
+        teamsByClubStatements(clubId, 3);
+        
+        assertEquals(0, teamsByClubStatements(clubId, 3));
+    }
+    
+    // The first lookup of a code queries, so it leaves the servlet thread; once resolved, a 304 is answered in place
+    @Test
+    void unresolvedTeamCodeIsLookedUpOnTheReadPool() throws Exception {
+        String teamCode = data.team().getTeamCode();
+        
+        MvcResult first = mockMvc.perform(get(TEAM_BY_CODE, teamCode))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String tag = mockMvc.perform(asyncDispatch(first))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.teamCode").value(teamCode))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        mockMvc.perform(get(TEAM_BY_CODE, teamCode).header(HttpHeaders.IF_NONE_MATCH, tag))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isNotModified());
+    }
+    
+    @Test
+    void unknownTeamCodeIsLookedUpOnTheReadPool() throws Exception {
+        MvcResult result = mockMvc.perform(get(TEAM_BY_CODE, "NO-SUCH-TEAM"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Team not found"));
+    }
+    
+    private long teamsByClubStatements(Long clubId, int teams) throws Exception {
+        return SqlStatementCounts.statementsOf(meterRegistry, "GET", TEAMS_BY_CLUB, () ->
+            AsyncMockMvc.perform(mockMvc, get(TEAMS_BY_CLUB, clubId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(teams)));
+    }
+    
+    private Long clubWithTeams(int teams) {
+        Club club = data.club();
+        for (int i = 0; i < teams; i++) {
+            data.players(data.team(club), 1);
+        }
+        return club.getId();
+    }
+}
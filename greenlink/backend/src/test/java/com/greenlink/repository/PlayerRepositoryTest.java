@@ -0,0 +1,70 @@
+package com.greenlink.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.greenlink.model.Player;
+import com.greenlink.model.Team;
+import com.greenlink.support.TestData;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PlayerRepositoryTest {
+    
+    @Autowired
+    private TestData data;
+    
+    @Autowired
+    private PlayerRepository playerRepository;
+    
+    private Team team;
+    
+    @BeforeEach
+    void setUp() {
+        team = data.team();
+    }
+    
+    @Test
+    void incrementLeavesUntouchedStatsAlone() {
+        Player player = new Player("Untracked", team);
+        player.setMatchesPlayed(null);
+        player.setGoals(2);
+        player.setAssists(null);
+        player.setYellowCards(null);
+        player.setRedCards(null);
+        Long id = playerRepository.saveAndFlush(player).getId();
+        
+        assertEquals(1, playerRepository.incrementStats(id, 0, 1, 1, 0, 0));
+        
+        Player updated = playerRepository.findById(id).orElseThrow();
+        assertEquals(3, updated.getGoals());
+        assertEquals(1, updated.getAssists());
+        assertNull(updated.getMatchesPlayed());
+        assertNull(updated.getYellowCards());
+        assertNull(updated.getRedCards());
+    }
+    
+    @Test
+    void incrementIsFlooredAtZero() {
+        Player player = new Player("Corrected", team);
+        player.setGoals(1);
+        Long id = playerRepository.saveAndFlush(player).getId();
+        
+        playerRepository.incrementStats(id, 0, -3, 0, 0, 0);
+        
+        assertEquals(0, playerRepository.findById(id).orElseThrow().getGoals());
+    }
+    
+    @Test
+    void incrementOfUnknownPlayerUpdatesNothing() {
+        assertEquals(0, playerRepository.incrementStats(Long.MAX_VALUE, 1, 1, 1, 1, 1));
+    }
+}
@@ -0,0 +1,113 @@
+package com.greenlink.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.greenlink.support.EmbeddedPostgresServer;
+
+// Every repository finder must be servable by an index. The app starts on embedded PostgreSQL with the
+// production settings (Flyway migrations, ddl-auto=validate, so the entities are checked against the
+// migrated schema too); each finder's SQL is then explained with sequential scans priced out of reach,
+// so a plan that still has one means no index fits.
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "app.matchEventLogDir=target/query-plan-match-events",
+    "logging.level.com.greenlink=INFO"
+})
+class QueryPlanTest {
+    
+    private static final String DATABASE = "query_plans";
+    
+    // Finder -> the SQL it runs (literal arguments; bulk streams and reconciliations scan on purpose)
+    private static final Map<String, String> FINDERS = Map.ofEntries(
+        Map.entry("PlayerRepository.findViewsByTeamId", "SELECT * FROM players WHERE team_id = 1 ORDER BY id"),
+        Map.entry("PlayerRepository.countByTeamId", "SELECT COUNT(*) FROM players WHERE team_id = 1"),
+        Map.entry("PlayerRepository.findByTeamAndPosition", "SELECT * FROM players WHERE team_id = 1 AND position = 'Goalkeeper'"),
+        Map.entry("PlayerRepository.findByTeamAndJerseyNumber", "SELECT * FROM players WHERE team_id = 1 AND jersey_number = 9"),
+        Map.entry("PlayerRepository.findByTeamAndNameContainingIgnoreCase",
+            "SELECT * FROM players WHERE team_id = 1 AND upper(name) LIKE upper('%smith%')"),
+        Map.entry("PlayerRepository.search", "SELECT id FROM players WHERE upper(name) LIKE upper('%smith%') " +
+            "ORDER BY similarity(upper(name), upper('smith')) DESC, id LIMIT 20"),
+        Map.entry("PlayerRepository.findTopScorersByTeam",
+            "SELECT id FROM players WHERE team_id = 1 AND goals IS NOT NULL ORDER BY goals DESC, id LIMIT 10"),
+        Map.entry("PlayerRepository.findTopAssistsByTeam",
+            "SELECT id FROM players WHERE team_id = 1 AND assists IS NOT NULL ORDER BY assists DESC, id LIMIT 10"),
+        Map.entry("PlayerRepository.findMostActiveByTeam",
+            "SELECT id FROM players WHERE team_id = 1 AND matches_played IS NOT NULL ORDER BY matches_played DESC, id LIMIT 10"),
+        Map.entry("PlayerRepository.findTopScorersByClub", "SELECT p.id FROM players p JOIN teams t ON t.id = p.team_id " +
+            "WHERE t.club_id = 1 AND p.goals IS NOT NULL ORDER BY p.goals DESC, p.id LIMIT 10"),
+        Map.entry("PlayerRepository.incrementStats", "UPDATE players SET goals = goals + 1 WHERE id = 1"),
+        Map.entry("TeamRepository.findByTeamCode", "SELECT * FROM teams WHERE team_code = 'ABC-12345'"),
+        Map.entry("TeamRepository.findByManager", "SELECT * FROM teams WHERE manager_id = 1"),
+        Map.entry("TeamRepository.findSummariesByClubId", "SELECT * FROM teams WHERE club_id = 1 ORDER BY name, id"),
+        Map.entry("TeamRepository.findByClubAndAgeGroup", "SELECT * FROM teams WHERE club_id = 1 AND age_group = 'Under-18'"),
+        Map.entry("TeamRepository.findByClubAndNameContainingIgnoreCase",
+            "SELECT * FROM teams WHERE club_id = 1 AND upper(name) LIKE upper('%rovers%')"),
+        Map.entry("ClubRepository.findByClubCode", "SELECT * FROM clubs WHERE club_code = 'ABC-12345'"),
+        Map.entry("ClubRepository.findByOwner", "SELECT * FROM clubs WHERE owner_id = 1"),
+        Map.entry("ClubRepository.findByNameContainingIgnoreCase", "SELECT * FROM clubs WHERE upper(name) LIKE upper('%rovers%')"),
+        Map.entry("ClubRepository.findSummariesAfter", "SELECT * FROM clubs WHERE id > 100 ORDER BY id LIMIT 50"),
+        Map.entry("ClubMemberRepository.findByClubIdAndUserId", "SELECT * FROM club_members WHERE club_id = 1 AND user_id = 1"),
+        Map.entry("ClubMemberRepository.findByUser", "SELECT * FROM club_members WHERE user_id = 1"),
+        Map.entry("ClubMemberRepository.findRowsByUserId", "SELECT club_id, role FROM club_members WHERE user_id = 1 ORDER BY club_id"),
+        Map.entry("ClubMemberRepository.findByClub", "SELECT * FROM club_members WHERE club_id = 1"),
+        Map.entry("ClubMemberRepository.findByClubAndRole", "SELECT * FROM club_members WHERE club_id = 1 AND role = 'ADMIN'"),
+        Map.entry("TeamMemberRepository.findByTeamIdAndUserId", "SELECT * FROM team_members WHERE team_id = 1 AND user_id = 1"),
+        Map.entry("TeamMemberRepository.findTeamIdsByUserId", "SELECT team_id FROM team_members WHERE user_id = 1 ORDER BY team_id"),
+        Map.entry("UserRepository.findByUsername", "SELECT * FROM users WHERE username = 'alice'"),
+        Map.entry("UserRepository.findByEmail", "SELECT * FROM users WHERE email = 'alice@example.com'"),
+        Map.entry("UserRepository.findByRole", "SELECT * FROM users WHERE role = 'MANAGER'"));
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresServer.createDatabase(DATABASE);
+        registry.add("spring.datasource.url", () -> EmbeddedPostgresServer.jdbcUrl(DATABASE));
+        registry.add("spring.datasource.username", () -> EmbeddedPostgresServer.USER);
+        registry.add("spring.datasource.password", () -> "");
+    }
+    
+    @Test
+    void everyFinderUsesAnIndex() throws SQLException {
+        List<String> sequentialScans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            for (Map.Entry<String, String> finder : FINDERS.entrySet()) {
+                String plan = explain(statement, finder.getValue());
+                if (plan.contains("Seq Scan")) {
+                    sequentialScans.add(finder.getKey() + ":\n" + plan);
+                }
+            }
+            statement.execute("RESET enable_seqscan");
+        }
+        
+        assertThat(sequentialScans).isEmpty();
+    }
+    
+    private static String explain(Statement statement, String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package com.greenlink.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.greenlink.support.AsyncMockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTest {
+    
+    private static final String STALE_TOKEN = "Bearer eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIxIn0.invalid";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Test
+    void staleTokenDoesNotBlockLogin() throws Exception {
+        AsyncMockMvc.perform(mockMvc, post("/api/auth/login")
+                .header(HttpHeaders.AUTHORIZATION, STALE_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"username":"nobody","password":"pw"}"""))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Invalid username or password"));
+    }
+    
+    @Test
+    void staleTokenIsRejectedElsewhere() throws Exception {
+        mockMvc.perform(get("/api/memberships/user/1").header(HttpHeaders.AUTHORIZATION, STALE_TOKEN))
+            .andExpect(status().isUnauthorized());
+    }
+}
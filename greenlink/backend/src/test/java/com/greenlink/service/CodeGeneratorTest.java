@@ -0,0 +1,103 @@
+package com.greenlink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// Collision behaviour of CodeGenerator, measured on a namespace small enough to fill. The unique constraint
+// is simulated by a set: an insert of a code already in it fails like the database would.
+class CodeGeneratorTest {
+    
+    private static final String[] ONE_WORD = {"FC"};
+    
+    private static CodeGenerator generator(String alphabet, int length, int maxAttempts) {
+        return new CodeGenerator(alphabet, length, maxAttempts, mock(PlatformTransactionManager.class));
+    }
+    
+    // Inserts `code` unless the "constraint" already holds it
+    private static String insert(Set<String> taken, String code) {
+        if (!taken.add(code)) {
+            throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+        }
+        return code;
+    }
+    
+    @Test
+    void codesAreWordPlusSuffixFromTheAlphabet() {
+        CodeGenerator codes = generator("ABC", 4, 1);
+        
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(codes.next(CodeGenerator.CLUB_WORDS)).matches("(EAGLES|LIONS|TIGERS|BEARS|WOLVES|HAWKS|STORM|FIRE|THUNDER|LIGHTNING)[ABC]{4}");
+        }
+    }
+    
+    // Expected inserts per create are 1 / (1 - fill). At half full that is 2; at 90% full it is 10.
+    @Test
+    void insertsPerCreateMatchTheCollisionMath() {
+        String alphabet = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+        int namespace = 32 * 32 * 32;
+        
+        for (double fill : new double[] {0.1, 0.5, 0.9}) {
+            CodeGenerator codes = generator(alphabet, 3, 1_000);
+            Set<String> taken = new HashSet<>();
+            while (taken.size() < fill * namespace) {
+                taken.add(codes.next(ONE_WORD));
+            }
+            
+            // Measure a batch of creates at (roughly) this fill; removing each new code keeps the fill steady
+            int creates = 2_000;
+            AtomicInteger inserts = new AtomicInteger();
+            for (int i = 0; i < creates; i++) {
+                String code = codes.reserve(ONE_WORD, candidate -> {
+                    inserts.incrementAndGet();
+                    return insert(taken, candidate);
+                }, taken::contains);
+                taken.remove(code);
+            }
+            
+            double expected = 1 / (1 - fill);
+            double measured = (double) inserts.get() / creates;
+            assertThat(measured).as("inserts per create at fill %.1f", fill).isBetween(expected * 0.85, expected * 1.15);
+        }
+    }
+    
+    @Test
+    void defaultNamespaceKeepsRetriesRareAtTenMillionCodes() {
+        // 10 words * 32^5 suffixes, as configured in application.properties
+        double namespace = 10 * Math.pow(32, 5);
+        double expectedInserts = 1 / (1 - 10_000_000 / namespace);
+        
+        assertThat(namespace).isGreaterThan(335_000_000);
+        assertThat(expectedInserts).isLessThan(1.04);
+    }
+    
+    @Test
+    void otherIntegrityViolationsAreNotRetried() {
+        CodeGenerator codes = generator("AB", 2, 5);
+        AtomicInteger inserts = new AtomicInteger();
+        
+        assertThatThrownBy(() -> codes.reserve(ONE_WORD, code -> {
+            inserts.incrementAndGet();
+            throw new DataIntegrityViolationException("null value in column \"name\"");
+        }, code -> false)).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(inserts).hasValue(1);
+    }
+    
+    @Test
+    void givesUpAfterMaxAttemptsWhenTheNamespaceIsFull() {
+        CodeGenerator codes = generator("A", 1, 3);
+        Set<String> taken = new HashSet<>(Set.of("FCA"));
+        
+        assertThatThrownBy(() -> codes.reserve(ONE_WORD, code -> insert(taken, code), taken::contains))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("3 attempts");
+    }
+}
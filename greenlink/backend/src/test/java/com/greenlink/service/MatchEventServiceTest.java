@@ -0,0 +1,89 @@
+package com.greenlink.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.greenlink.dto.MatchEvent;
+import com.greenlink.dto.MatchEvent.Type;
+import com.greenlink.model.Player;
+import com.greenlink.model.Team;
+import com.greenlink.repository.PlayerRepository;
+import com.greenlink.support.TestData;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MatchEventServiceTest {
+    
+    @Autowired
+    private MatchEventService matchEventService;
+    
+    @Autowired
+    private TestData data;
+    
+    @Autowired
+    private PlayerRepository playerRepository;
+    
+    private Team team;
+    
+    @BeforeEach
+    void setUp() {
+        team = data.team();
+    }
+    
+    @Test
+    void flushAppliesTheNetDeltaPerPlayer() {
+        Long scorer = data.player(team, "Scorer").getId();
+        Long keeper = data.player(team, "Keeper").getId();
+        
+        matchEventService.ingest(List.of(
+            new MatchEvent(scorer, Type.APPEARANCE),
+            new MatchEvent(scorer, Type.GOAL),
+            new MatchEvent(keeper, Type.APPEARANCE),
+            new MatchEvent(scorer, Type.GOAL)));
+        matchEventService.ingest(List.of(new MatchEvent(keeper, Type.YELLOW_CARD)));
+        matchEventService.flush();
+        
+        Player scored = playerRepository.findById(scorer).orElseThrow();
+        assertEquals(1, scored.getMatchesPlayed());
+        assertEquals(2, scored.getGoals());
+        assertEquals(0, scored.getYellowCards());
+        Player booked = playerRepository.findById(keeper).orElseThrow();
+        assertEquals(1, booked.getMatchesPlayed());
+        assertEquals(0, booked.getGoals());
+        assertEquals(1, booked.getYellowCards());
+    }
+    
+    @Test
+    void flushLeavesUnrecordedStatsNull() {
+        Player player = new Player("Untracked", team);
+        player.setAssists(null);
+        player.setRedCards(null);
+        Long id = playerRepository.save(player).getId();
+        
+        matchEventService.ingest(List.of(new MatchEvent(id, Type.GOAL)));
+        matchEventService.flush();
+        
+        Player updated = playerRepository.findById(id).orElseThrow();
+        assertEquals(1, updated.getGoals());
+        assertNull(updated.getAssists());
+        assertNull(updated.getRedCards());
+    }
+    
+    @Test
+    void eventsForUnknownPlayersAreDropped() {
+        Long id = data.player(team, "Known").getId();
+        
+        matchEventService.ingest(List.of(new MatchEvent(Long.MAX_VALUE, Type.GOAL), new MatchEvent(id, Type.ASSIST)));
+        matchEventService.flush();
+        
+        assertEquals(1, playerRepository.findById(id).orElseThrow().getAssists());
+    }
+}
@@ -0,0 +1,81 @@
+package com.greenlink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.greenlink.event.MembershipChangedEvent;
+import com.greenlink.event.MembershipChangedEvent.Type;
+import com.greenlink.model.ClubMember.Role;
+import com.greenlink.repository.ClubMemberRepository;
+import com.greenlink.repository.TeamMemberRepository;
+
+// Role checks against a warm index of USERS x CLUBS_PER_USER club memberships: time per lookup and bytes
+// allocated per lookup (HotSpot's per-thread allocation counter), after a JIT warm-up.
+// Run with: mvn test -Pbenchmarks -Dtest=MembershipIndexBenchmark
+class MembershipIndexBenchmark {
+    
+    private static final int USERS = 500_000;
+    private static final int CLUBS = 20_000;
+    private static final int CLUBS_PER_USER = 4;
+    private static final int WARM_UP_LOOKUPS = 2_000_000;
+    private static final int LOOKUPS = 5_000_000;
+    
+    @Test
+    void roleChecksDoNotAllocate() {
+        ClubMemberRepository clubMembers = mock(ClubMemberRepository.class);
+        TeamMemberRepository teamMembers = mock(TeamMemberRepository.class);
+        when(clubMembers.streamAllRows()).thenReturn(Stream.empty());
+        when(teamMembers.streamAllRows()).thenReturn(Stream.empty());
+        MembershipIndex index = MembershipIndexTest.newIndex(clubMembers, teamMembers);
+        index.warmUp();
+        
+        SplittableRandom random = new SplittableRandom(42);
+        for (long user = 1; user <= USERS; user++) {
+            for (int i = 0; i < CLUBS_PER_USER; i++) {
+                long club = 1 + random.nextInt(CLUBS);
+                index.onMembershipChanged(MembershipChangedEvent.club(Type.JOINED, user, club, Role.MEMBER));
+            }
+        }
+        
+        long[] users = new long[1 << 16];
+        long[] clubs = new long[users.length];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = 1 + random.nextInt(USERS);
+            clubs[i] = 1 + random.nextInt(CLUBS);
+        }
+        lookups(index, users, clubs, WARM_UP_LOOKUPS);
+        
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long started = System.nanoTime();
+        int members = lookups(index, users, clubs, LOOKUPS);
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+        
+        System.out.printf("clubRole: %.0f ns/lookup, %d bytes allocated over %d lookups (%d members)%n",
+            (double) elapsed / LOOKUPS, allocated, LOOKUPS, members);
+        
+        // A few hundred bytes of slack for the counter calls themselves
+        assertThat(allocated).isLessThan(1_024);
+        assertThat((double) elapsed / LOOKUPS).isLessThan(2_000);
+    }
+    
+    private static int lookups(MembershipIndex index, long[] users, long[] clubs, int count) {
+        int members = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = i & (users.length - 1);
+            if (index.clubRole(users[slot], clubs[slot]) != null) {
+                members++;
+            }
+        }
+        return members;
+    }
+}
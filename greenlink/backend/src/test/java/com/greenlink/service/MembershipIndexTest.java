@@ -0,0 +1,102 @@
+package com.greenlink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.greenlink.dto.MembershipRow;
+import com.greenlink.event.MembershipChangedEvent;
+import com.greenlink.event.MembershipChangedEvent.Type;
+import com.greenlink.model.ClubMember.Role;
+import com.greenlink.repository.ClubMemberRepository;
+import com.greenlink.repository.TeamMemberRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MembershipIndexTest {
+    
+    private final ClubMemberRepository clubMemberRepository = mock(ClubMemberRepository.class);
+    private final TeamMemberRepository teamMemberRepository = mock(TeamMemberRepository.class);
+    private MembershipIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = newIndex(clubMemberRepository, teamMemberRepository);
+    }
+    
+    @Test
+    void readsTheDatabaseUntilWarm() {
+        when(clubMemberRepository.findRowsByUserId(7L)).thenReturn(List.of(new MembershipRow(7L, 3L, Role.COACH)));
+        when(teamMemberRepository.findTeamIdsByUserId(7L)).thenReturn(List.of(4L, 9L));
+        
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.clubMembershipsOf(7L)).extracting(MembershipRow::getTargetId, MembershipRow::getRole)
+            .containsExactly(tuple(3L, Role.COACH));
+        assertThat(index.teamsOf(7L)).containsExactly(4L, 9L);
+    }
+    
+    @Test
+    void servesFromMemoryOnceWarm() {
+        when(clubMemberRepository.streamAllRows()).thenReturn(Stream.of(
+            new MembershipRow(7L, 5L, Role.MEMBER), new MembershipRow(7L, 2L, Role.OWNER)));
+        when(teamMemberRepository.streamAllRows()).thenReturn(Stream.of(new MembershipRow(7L, 11L)));
+        index.warmUp();
+        
+        assertThat(index.clubMembershipsOf(7L)).extracting(MembershipRow::getTargetId, MembershipRow::getRole)
+            .containsExactly(tuple(2L, Role.OWNER), tuple(5L, Role.MEMBER));
+        assertThat(index.teamsOf(7L)).containsExactly(11L);
+        assertThat(index.clubMembershipsOf(8L)).isEmpty();
+        assertThat(index.teamsOf(8L)).isEmpty();
+    }
+    
+    @Test
+    void leaveDuringWarmUpIsReplayed() {
+        when(clubMemberRepository.streamAllRows()).thenReturn(Stream.of(new MembershipRow(7L, 5L, Role.MEMBER)));
+        when(teamMemberRepository.streamAllRows()).thenReturn(Stream.empty());
+        index.onMembershipChanged(MembershipChangedEvent.club(Type.LEFT, 7L, 5L, Role.MEMBER));
+        index.warmUp();
+        
+        assertThat(index.clubMembershipsOf(7L)).isEmpty();
+        assertThat(index.isClubMember(7L, 5L)).isFalse();
+    }
+    
+    @Test
+    void rolesComeFromTheSameSnapshotAsTheIds() throws InterruptedException {
+        when(clubMemberRepository.streamAllRows()).thenReturn(Stream.empty());
+        when(teamMemberRepository.streamAllRows()).thenReturn(Stream.empty());
+        index.warmUp();
+        
+        // Joins and leaves race the listing; every club listed must carry its role
+        Thread churn = new Thread(() -> {
+            for (int i = 0; i < 200_000; i++) {
+                Type type = i % 2 == 0 ? Type.JOINED : Type.LEFT;
+                index.onMembershipChanged(MembershipChangedEvent.club(type, 7L, 1L + i % 8, Role.ADMIN));
+            }
+        });
+        churn.start();
+        while (churn.isAlive()) {
+            for (MembershipRow row : index.clubMembershipsOf(7L)) {
+                assertThat(row.getRole()).isEqualTo(Role.ADMIN);
+            }
+        }
+        churn.join();
+        verify(clubMemberRepository, never()).findRowsByUserId(7L);
+    }
+    
+    static MembershipIndex newIndex(ClubMemberRepository clubMembers, TeamMemberRepository teamMembers) {
+        MembershipIndex index = new MembershipIndex(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(index, "clubMemberRepository", clubMembers);
+        ReflectionTestUtils.setField(index, "teamMemberRepository", teamMembers);
+        return index;
+    }
+}
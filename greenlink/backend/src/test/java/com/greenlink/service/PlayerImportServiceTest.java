@@ -0,0 +1,81 @@
+package com.greenlink.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.greenlink.dto.CreatePlayerRequest;
+import com.greenlink.dto.ImportResult;
+import com.greenlink.event.PlayerChangedEvent;
+import com.greenlink.model.Player;
+import com.greenlink.model.Team;
+import com.greenlink.repository.PlayerRepository;
+import com.greenlink.support.TestData;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class PlayerImportServiceTest {
+    
+    @Autowired
+    private PlayerImportService playerImportService;
+    
+    @Autowired
+    private PlayerRepository playerRepository;
+    
+    @Autowired
+    private TestData data;
+    
+    @Autowired
+    private ApplicationEvents applicationEvents;
+    
+    // The over-long name passes row validation but not the varchar(255) column, so the whole batch
+    // rolls back and is retried row by row
+    @Test
+    void badRowInABatchDoesNotSinkTheOthers() {
+        Team team = data.team();
+        
+        ImportResult result = playerImportService.importPlayers(List.of(
+            row("Alice", team),
+            row("x".repeat(300), team),
+            row("Carol", team)));
+        
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertTrue(result.getErrors().get(0).getError().startsWith("Could not save player: "));
+        
+        Map<String, Long> saved = playerRepository.findByTeam(team).stream()
+            .collect(Collectors.toMap(Player::getName, Player::getId));
+        assertEquals(Map.of("Alice", saved.get("Alice"), "Carol", saved.get("Carol")), saved);
+        
+        // Events are published after the flush, so a batch or row that failed to insert announces nothing:
+        // one CREATED event per committed player
+        List<PlayerChangedEvent> events = applicationEvents.stream(PlayerChangedEvent.class)
+            .filter(e -> team.getId().equals(e.getTeamId()))
+            .toList();
+        assertEquals(2, events.size());
+        for (PlayerChangedEvent event : events) {
+            assertEquals(PlayerChangedEvent.Type.CREATED, event.getType());
+            assertEquals(saved.get(event.getName()), event.getPlayerId());
+        }
+    }
+    
+    private static CreatePlayerRequest row(String name, Team team) {
+        CreatePlayerRequest request = new CreatePlayerRequest();
+        request.setName(name);
+        request.setTeamId(team.getId());
+        return request;
+    }
+}
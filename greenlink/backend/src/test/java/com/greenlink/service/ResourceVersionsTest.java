@@ -0,0 +1,57 @@
+package com.greenlink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.greenlink.repository.ClubRepository;
+import com.greenlink.repository.TeamRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ResourceVersionsTest {
+    
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private final ClubRepository clubRepository = mock(ClubRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResourceVersions versions = new ResourceVersions(teamRepository, clubRepository, meterRegistry,
+        Duration.ofSeconds(5), 100, Duration.ofMinutes(10), 100, Duration.ofMinutes(10));
+    
+    @Test
+    void resolvedCodesAreCached() {
+        when(teamRepository.findIdByTeamCode("TEAM-1")).thenReturn(4L);
+        when(clubRepository.findIdByClubCode("CLUB-1")).thenReturn(9L);
+        
+        assertThat(versions.teamIdByCode("TEAM-1")).isEqualTo(4L);
+        assertThat(versions.teamIdByCode("TEAM-1")).isEqualTo(4L);
+        assertThat(versions.clubIdByCode("CLUB-1")).isEqualTo(9L);
+        assertThat(versions.clubIdByCode("CLUB-1")).isEqualTo(9L);
+        
+        verify(teamRepository, times(1)).findIdByTeamCode("TEAM-1");
+        verify(clubRepository, times(1)).findIdByClubCode("CLUB-1");
+        assertThat(gets("teamCodes", "hit")).isEqualTo(1);
+        assertThat(gets("clubCodes", "hit")).isEqualTo(1);
+    }
+    
+    // A code reserved after a miss must resolve on the next lookup
+    @Test
+    void unknownCodesAreNotCached() {
+        when(teamRepository.findIdByTeamCode("TEAM-2")).thenReturn(null, 5L);
+        
+        assertThat(versions.teamIdByCode("TEAM-2")).isNull();
+        assertThat(versions.teamIdByCode("TEAM-2")).isEqualTo(5L);
+        assertThat(gets("teamCodes", "miss")).isEqualTo(2);
+    }
+    
+    private double gets(String cache, String result) {
+        FunctionCounter counter = meterRegistry.find("cache.gets").tag("cache", cache).tag("result", result).functionCounter();
+        return counter.count();
+    }
+}
@@ -0,0 +1,24 @@
+package com.greenlink.support;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+// Performs a request and, when the handler went async (CompletableFuture, ReadPool), the async dispatch too,
+// so callers can assert on the final response either way
+public final class AsyncMockMvc {
+    
+    private AsyncMockMvc() {
+    }
+    
+    public static ResultActions perform(MockMvc mockMvc, RequestBuilder request) throws Exception {
+        ResultActions actions = mockMvc.perform(request);
+        var result = actions.andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            return mockMvc.perform(asyncDispatch(result));
+        }
+        return actions;
+    }
+}
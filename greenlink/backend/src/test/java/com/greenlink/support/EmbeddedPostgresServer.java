@@ -0,0 +1,57 @@
+package com.greenlink.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// One embedded PostgreSQL server per test JVM (binaries from io.zonky.test:embedded-postgres), for what H2
+// cannot check: the Flyway migrations (pg_trgm, PL/pgSQL) and query plans. Each test gets its own database.
+public final class EmbeddedPostgresServer {
+    
+    public static final String USER = "postgres";
+    
+    private static EmbeddedPostgres server;
+    
+    private EmbeddedPostgresServer() {}
+    
+    // Creates (or recreates) an empty database
+    public static synchronized DataSource createDatabase(String name) {
+        try (Connection connection = server().getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + name);
+            statement.execute("CREATE DATABASE " + name);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not create database " + name, e);
+        }
+        return server.getDatabase(USER, name);
+    }
+    
+    public static synchronized String jdbcUrl(String name) {
+        return server().getJdbcUrl(USER, name);
+    }
+    
+    private static EmbeddedPostgres server() {
+        if (server == null) {
+            try {
+                server = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start embedded PostgreSQL", e);
+            }
+            EmbeddedPostgres started = server;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    started.close();
+                } catch (IOException ignored) {
+                    // The JVM is exiting anyway
+                }
+            }));
+        }
+        return server;
+    }
+}
@@ -0,0 +1,39 @@
+package com.greenlink.support;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Thread-safe latency samples for benchmarks, reported in milliseconds
+public class Latencies {
+    
+    private long[] samples = new long[1024];
+    private int size;
+    
+    public synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+    
+    public synchronized int count() {
+        return size;
+    }
+    
+    // Nearest-rank percentile, e.g. percentileMillis(99)
+    public synchronized double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * size);
+        return sorted[Math.max(rank, 1) - 1] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+    
+    @Override
+    public synchronized String toString() {
+        return String.format("n=%d p50=%.1fms p99=%.1fms max=%.1fms",
+            size, percentileMillis(50), percentileMillis(99), percentileMillis(100));
+    }
+}
@@ -0,0 +1,30 @@
+package com.greenlink.support;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Statement counts per endpoint from the sql.statements summary that SqlStatementMonitor records, e.g.
+// statementsOf(registry, "GET", "/api/teams/club/{clubId}", () -> mockMvc.perform(...)).
+// Requests that run no SQL (cache hits) are not recorded, so they count as zero.
+public final class SqlStatementCounts {
+    
+    private SqlStatementCounts() {}
+    
+    @FunctionalInterface
+    public interface Request {
+        void perform() throws Exception;
+    }
+    
+    // SQL statements run by the one request that request.perform() makes to the endpoint
+    public static long statementsOf(MeterRegistry registry, String method, String uri, Request request) throws Exception {
+        DistributionSummary summary = registry.summary("sql.statements", "method", method, "uri", uri);
+        long countBefore = summary.count();
+        double totalBefore = summary.totalAmount();
+        request.perform();
+        long requests = summary.count() - countBefore;
+        if (requests > 1) {
+            throw new AssertionError(requests + " requests to " + method + " " + uri + " ran SQL, expected at most one");
+        }
+        return Math.round(summary.totalAmount() - totalBefore);
+    }
+}
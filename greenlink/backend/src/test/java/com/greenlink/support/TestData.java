@@ -0,0 +1,81 @@
+package com.greenlink.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.greenlink.model.Club;
+import com.greenlink.model.Player;
+import com.greenlink.model.Team;
+import com.greenlink.model.User;
+import com.greenlink.repository.ClubRepository;
+import com.greenlink.repository.PlayerRepository;
+import com.greenlink.repository.TeamRepository;
+import com.greenlink.repository.UserRepository;
+
+// Seeds users, clubs, teams and players for tests (picked up by the app's component scan, so any test
+// context can autowire it). Names, emails and codes get a fresh suffix on every call, so tests sharing a
+// context and its database never collide.
+@Component
+public class TestData {
+    
+    private final UserRepository userRepository;
+    private final ClubRepository clubRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    
+    public TestData(UserRepository userRepository,
+                    ClubRepository clubRepository,
+                    TeamRepository teamRepository,
+                    PlayerRepository playerRepository) {
+        this.userRepository = userRepository;
+        this.clubRepository = clubRepository;
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+    }
+    
+    public User user(User.Role role) {
+        String suffix = suffix();
+        return userRepository.save(new User("user-" + suffix, "user-" + suffix + "@example.com", "x", "User " + suffix, role));
+    }
+    
+    // A club owned by a new manager
+    public Club club() {
+        return club(user(User.Role.MANAGER));
+    }
+    
+    public Club club(User owner) {
+        String suffix = suffix();
+        return clubRepository.save(new Club("Club " + suffix, "CLUB-" + suffix, owner));
+    }
+    
+    // A team in a new club
+    public Team team() {
+        return team(club());
+    }
+    
+    // Managed by the club's owner
+    public Team team(Club club) {
+        String suffix = suffix();
+        return teamRepository.save(new Team("Team " + suffix, "TEAM-" + suffix, club, club.getOwner()));
+    }
+    
+    public Player player(Team team, String name) {
+        return playerRepository.save(new Player(name, team));
+    }
+    
+    // "Player 0" .. "Player <count - 1>"
+    public List<Player> players(Team team, int count) {
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(player(team, "Player " + i));
+        }
+        return players;
+    }
+    
+    private static String suffix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -43,6 +43,35 @@ function App() {
     if (userClub) fetchTeams();
   }, [userClub]);
 
+  // Live club updates (new teams) instead of refetching after every change
+  useEffect(() => {
+    if (!userClub) return;
+    const source = new EventSource(`${API_BASE}/live/club/${userClub.id}`);
+    source.addEventListener('team.created', fetchTeams);
+    source.addEventListener('resync', fetchTeams);
+    return () => source.close();
+  }, [userClub]);
+
+  // Live player deltas for the open team; "resync" means some were dropped, so refetch
+  useEffect(() => {
+    if (!selectedTeam) return;
+    const source = new EventSource(`${API_BASE}/live/team/${selectedTeam.id}`);
+    const upsertPlayer = (event) => {
+      const player = JSON.parse(event.data);
+      setPlayers(current => current.some(p => p.id === player.id)
+        ? current.map(p => (p.id === player.id ? { ...p, ...player } : p))
+        : [...current, player]);
+    };
+    source.addEventListener('player.created', upsertPlayer);
+    source.addEventListener('player.updated', upsertPlayer);
+    source.addEventListener('player.deleted', (event) => {
+      const { id } = JSON.parse(event.data);
+      setPlayers(current => current.filter(p => p.id !== id));
+    });
+    source.addEventListener('resync', () => fetchPlayers(selectedTeam.id));
+    return () => source.close();
+  }, [selectedTeam]);
+
   // API Functions
   const handleAuth = async (isSignup) => {
     const endpoint = isSignup ? '/auth/signup' : '/auth/login';
@@ -143,7 +172,6 @@ function App() {
       const data = await response.json();
       
       if (response.ok) {
-        fetchTeams();
         setTeamForm({ name: '', ageGroup: '', description: '' });
         setShowAddTeamForm(false);
         alert(`Team created! Team code: ${data.teamCode}`);
@@ -183,7 +211,6 @@ function App() {
       });
       
       if (response.ok) {
-        fetchPlayers(selectedTeam.id);
         setPlayerForm({ name: '', position: '', jerseyNumber: '' });
         setShowAddPlayerForm(false);
       } else {